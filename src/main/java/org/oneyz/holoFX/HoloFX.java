@@ -4,14 +4,23 @@ import lombok.Getter;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.oneyz.holoFX.commands.CommandManager;
 import org.oneyz.holoFX.commands.subcommands.*;
+import org.oneyz.holoFX.events.ChunkEventListener;
 import org.oneyz.holoFX.events.PlayerEventListener;
 import org.oneyz.holoFX.holograms.displays.HologramDisplayManager;
+import org.oneyz.holoFX.holograms.displays.HologramHealthMonitor;
+import org.oneyz.holoFX.holograms.displays.HologramMoveSessionManager;
+import org.oneyz.holoFX.holograms.displays.HologramOrphanSweeper;
+import org.oneyz.holoFX.holograms.leaderboards.PlaytimeLeaderboardProvider;
+import org.oneyz.holoFX.holograms.providers.DataProviderManager;
+import org.oneyz.holoFX.holograms.providers.UniquePlayersProvider;
 import org.oneyz.holoFX.loader.HologramBatchLoader;
 import org.oneyz.holoFX.loader.HologramLoader;
 import org.oneyz.holoFX.loader.HologramWorldListener;
 import org.oneyz.holoFX.models.Hologram;
+import org.oneyz.holoFX.utils.ConfigManager;
 import org.oneyz.holoFX.utils.Logger;
 import org.oneyz.holoFX.utils.MessageManager;
+import org.oneyz.holoFX.utils.WorldRegistry;
 
 import java.io.File;
 import java.util.Map;
@@ -31,12 +40,26 @@ public final class HoloFX extends JavaPlugin {
     private HologramDisplayManager hologramDisplayManager;
     @Getter
     private MessageManager messageManager;
+    @Getter
+    private ConfigManager configManager;
+    @Getter
+    private HologramOrphanSweeper orphanSweeper;
+    @Getter
+    private HologramHealthMonitor healthMonitor;
+    @Getter
+    private HologramMoveSessionManager moveSessionManager;
+    @Getter
+    private DataProviderManager dataProviderManager;
 
     @Override
     public void onEnable() {
         Logger.init(this);
         Logger.info("§6HoloFX v" + getDescription().getVersion() + " is loading...");
+        this.configManager = new ConfigManager(this);
         this.messageManager = new MessageManager(this);
+        this.dataProviderManager = new DataProviderManager(this, configManager.getProviderWorkerThreads());
+        registerDataProviders();
+        dataProviderManager.start();
 
         File dataFolder = new File(getDataFolder(), "holograms");
         this.hologramLoader = new HologramLoader(dataFolder);
@@ -44,13 +67,23 @@ public final class HoloFX extends JavaPlugin {
         Map<String, Hologram> holograms = hologramLoader.loadAllHolograms();
         Logger.info("§aHoloFX successfully loaded " + holograms.size() + " hologram(s) from configuration!");
         this.hologramDisplayManager = new HologramDisplayManager(this);
+        this.moveSessionManager = new HologramMoveSessionManager(this, hologramDisplayManager);
+        hologramDisplayManager.getPlaceholderRefresher().start();
+        hologramDisplayManager.getAnimationScheduler().start();
+        hologramDisplayManager.getPageScheduler().start();
+        hologramDisplayManager.getLeaderboardManager().start();
         getServer().getPluginManager().registerEvents(
                 new PlayerEventListener(this, hologramDisplayManager, hologramDisplayManager.getVisibilityManager()),
                 this
         );
+        getServer().getPluginManager().registerEvents(new ChunkEventListener(hologramDisplayManager), this);
         this.batchLoader = new HologramBatchLoader(this, hologramLoader, hologramDisplayManager, 5, 10);
-        this.worldListener = new HologramWorldListener(batchLoader);
+        this.worldListener = new HologramWorldListener(batchLoader, hologramDisplayManager);
         getServer().getPluginManager().registerEvents(worldListener, this);
+        this.orphanSweeper = new HologramOrphanSweeper(this, hologramDisplayManager);
+        orphanSweeper.start();
+        this.healthMonitor = new HologramHealthMonitor(this, hologramDisplayManager);
+        healthMonitor.start();
         getServer().getScheduler().scheduleSyncDelayedTask(this, () -> {
             Logger.info("All worlds should be loaded. Spawning configured holograms...");
             hologramLoader.validateAllWorlds();
@@ -67,16 +100,52 @@ public final class HoloFX extends JavaPlugin {
 
     @Override
     public void onDisable() {
+        if (moveSessionManager != null) {
+            moveSessionManager.endAllSessions();
+        }
+        if (orphanSweeper != null) {
+            orphanSweeper.stop();
+        }
+        if (healthMonitor != null) {
+            healthMonitor.stop();
+            Logger.info("Health monitor: " + healthMonitor.getSummary());
+        }
         if (hologramDisplayManager != null) {
-            hologramDisplayManager.despawnAllHolograms();
+            hologramDisplayManager.getPlaceholderRefresher().stop();
+            hologramDisplayManager.getAnimationScheduler().stop();
+            hologramDisplayManager.getPageScheduler().stop();
+            hologramDisplayManager.getLeaderboardManager().stop();
+            if (configManager != null && configManager.isPersistentDisplays()) {
+                hologramDisplayManager.detachAllHolograms();
+            } else {
+                hologramDisplayManager.despawnAllHolograms();
+            }
         }
         if (hologramDisplayManager != null && hologramDisplayManager.getVisibilityManager() != null) {
             hologramDisplayManager.getVisibilityManager().clearAllCache();
         }
 
+        if (dataProviderManager != null) {
+            dataProviderManager.shutdown();
+        }
+
+        if (hologramLoader != null) {
+            hologramLoader.shutdown();
+        }
+        WorldRegistry.clear();
+
         Logger.info("§cHoloFX is shutting down...");
     }
 
+    /**
+     * Register the built-in data providers and the placeholders backed by them
+     */
+    private void registerDataProviders() {
+        dataProviderManager.register(new UniquePlayersProvider());
+        dataProviderManager.<Integer>registerPlaceholder("unique_players", UniquePlayersProvider.NAME, String::valueOf);
+        dataProviderManager.register(new PlaytimeLeaderboardProvider());
+    }
+
     /**
      * Register all subcommands
      */
@@ -89,6 +158,7 @@ public final class HoloFX extends JavaPlugin {
                 new EditCommand(this),
                 new TeleportCommand(this),
                 new SummonCommand(this),
+                new MoveCommand(this),
                 new SettingsCommand(this)
         );
 
@@ -0,0 +1,84 @@
+package org.oneyz.holoFX.commands.subcommands;
+
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.oneyz.holoFX.HoloFX;
+import org.oneyz.holoFX.enums.TabCompleteType;
+import org.oneyz.holoFX.holograms.displays.HologramMoveSessionManager;
+import org.oneyz.holoFX.interfaces.commands.CommandInfo;
+import org.oneyz.holoFX.interfaces.commands.SubCommand;
+import org.oneyz.holoFX.interfaces.tabcomplete.TabComplete;
+import org.oneyz.holoFX.interfaces.tabcomplete.TabCompleteConfig;
+import org.oneyz.holoFX.tabcomplete.TabCompleteUtil;
+import org.oneyz.holoFX.utils.MessageManager;
+
+import java.util.List;
+import java.util.Map;
+
+@CommandInfo(
+        commandName = "move",
+        permission = "holo.move",
+        usage = "holo move <hologram_name|done|cancel>",
+        descriptionPath = "descriptions.move",
+        onlyPlayer = true
+)
+
+@TabComplete({
+        @TabCompleteConfig(position = 0, type = TabCompleteType.HOLOGRAM_LIST)
+})
+public class MoveCommand implements SubCommand {
+
+    private final HoloFX plugin;
+    private final TabCompleteUtil tabCompleteUtil;
+
+    public MoveCommand(HoloFX plugin) {
+        this.plugin = plugin;
+        this.tabCompleteUtil = new TabCompleteUtil(plugin);
+    }
+
+    @Override
+    public MessageManager getMessageManager() {
+        return plugin.getMessageManager();
+    }
+
+    @Override
+    public boolean execute(CommandSender sender, String[] args) {
+        Player player = (Player) sender;
+        HologramMoveSessionManager sessionManager = plugin.getMoveSessionManager();
+        String current = sessionManager.getSessionHologram(player);
+
+        if (args.length < 1 || (current != null && args[0].equalsIgnoreCase("done"))) {
+            if (current == null) {
+                return false;
+            }
+            sessionManager.endSession(player, true);
+            getMessageManager().sendMessage(sender, "move.ended", Map.of("name", current));
+            return true;
+        }
+
+        if (current != null && args[0].equalsIgnoreCase("cancel")) {
+            sessionManager.endSession(player, false);
+            getMessageManager().sendMessage(sender, "move.cancelled", Map.of("name", current));
+            return true;
+        }
+
+        String hologramName = args[0];
+        if (plugin.getHologramDisplayManager().getHologram(hologramName) == null) {
+            getMessageManager().sendMessage(sender, "edit.not_active", Map.of("name", hologramName));
+            return true;
+        }
+
+        if (!sessionManager.startSession(player, hologramName)) {
+            getMessageManager().sendMessage(sender, "move.in_use", Map.of("name", hologramName));
+            return true;
+        }
+
+        getMessageManager().sendMessage(sender, "move.started", Map.of("name", hologramName));
+        return true;
+    }
+
+    @Override
+    public List<String> getTabCompletions(CommandSender sender, String[] args) {
+        return tabCompleteUtil.getSubCommandCompletions(sender, this, args);
+    }
+}
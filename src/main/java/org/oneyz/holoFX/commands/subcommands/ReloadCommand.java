@@ -8,6 +8,7 @@ import org.oneyz.holoFX.interfaces.commands.SubCommand;
 import org.oneyz.holoFX.holograms.displays.HologramDisplayManager;
 import org.oneyz.holoFX.interfaces.tabcomplete.TabComplete;
 import org.oneyz.holoFX.interfaces.tabcomplete.TabCompleteConfig;
+import org.oneyz.holoFX.loader.HologramDiff;
 import org.oneyz.holoFX.loader.HologramLoader;
 import org.oneyz.holoFX.models.Hologram;
 import org.oneyz.holoFX.tabcomplete.TabCompleteUtil;
@@ -67,22 +68,36 @@ public class ReloadCommand implements SubCommand {
             Logger.severe("Error reloading messages", e);
         }
 
+        plugin.getConfigManager().loadConfig();
+        plugin.getOrphanSweeper().start();
+        plugin.getHealthMonitor().start();
+
         HologramLoader loader = plugin.getHologramLoader();
         HologramDisplayManager displayManager = plugin.getHologramDisplayManager();
 
-        displayManager.despawnAllHolograms();
-
-        loader.reloadAll();
+        Map<String, Hologram> reloaded = loader.parseAllHolograms();
+        HologramDiff diff = HologramDiff.compute(loader.getAllHolograms().values(), reloaded.values());
+        loader.replaceAll(reloaded);
 
-        plugin.getServer().getScheduler().scheduleSyncDelayedTask(plugin, () -> {
-            loader.validateAllWorlds();
-            plugin.getBatchLoader().loadAndSpawnAllHolograms();
-        }, 20L);
+        List<Hologram> toSpawn = displayManager.applyDiff(diff);
+        plugin.getBatchLoader().spawnHolograms(toSpawn);
 
         long loadTime = System.currentTimeMillis() - startTime;
         int count = loader.getLoadedCount();
 
         getMessageManager().sendMessage(sender, "reload.holograms_loaded", Map.of("count", String.valueOf(count)));
+        if (diff.isEmpty()) {
+            getMessageManager().sendMessage(sender, "reload.no_changes");
+        } else {
+            getMessageManager().sendMessage(sender, "reload.changes", Map.of(
+                    "added", String.valueOf(diff.getAdded().size()),
+                    "removed", String.valueOf(diff.getRemoved().size()),
+                    "moved", String.valueOf(diff.getMovedCount()),
+                    "text", String.valueOf(diff.getTextChangedCount()),
+                    "settings", String.valueOf(diff.getSettingsChangedCount()),
+                    "unchanged", String.valueOf(diff.getUnchanged().size())
+            ));
+        }
         getMessageManager().sendMessage(sender, "reload.reloaded", Map.of("ms", String.valueOf(loadTime)));
         return true;
     }
@@ -99,51 +114,48 @@ public class ReloadCommand implements SubCommand {
         HologramLoader loader = plugin.getHologramLoader();
         HologramDisplayManager displayManager = plugin.getHologramDisplayManager();
 
-        Map<String, Hologram> allHolograms = loader.getAllHolograms();
-        Hologram hologram = allHolograms.values().stream()
-                .filter(h -> h.getName().equalsIgnoreCase(hologramName))
-                .findFirst()
-                .orElse(null);
-
-        if (hologram == null) {
-            getMessageManager().sendMessage(sender, "reload.hologram_not_found", Map.of("name", hologramName));
-            return true;
-        }
-
         long startTime = System.currentTimeMillis();
 
-        if (displayManager.isActive(hologramName)) {
-            displayManager.despawnHologram(hologramName);
-            getMessageManager().sendMessage(sender, "reload.hologram_despawned", Map.of("name", hologramName));
+        Hologram currentHologram = loader.getHologramByName(hologramName);
+        Hologram reloadedHologram;
+        try {
+            reloadedHologram = loader.reloadHologram(currentHologram != null ? currentHologram.getName() : hologramName);
+        } catch (Exception e) {
+            getMessageManager().sendMessage(sender, "reload.failed", Map.of("error", String.valueOf(e.getMessage())));
+            Logger.severe("Error reloading hologram: " + hologramName, e);
+            return true;
         }
 
-        loader.reloadAll();
-
-        Hologram reloadedHologram = allHolograms.values().stream()
-                .filter(h -> h.getName().equalsIgnoreCase(hologramName))
-                .findFirst()
-                .orElse(null);
-
         if (reloadedHologram == null) {
+            if (currentHologram != null && displayManager.isActive(currentHologram.getName())) {
+                displayManager.despawnHologram(currentHologram.getName());
+                getMessageManager().sendMessage(sender, "reload.hologram_despawned", Map.of("name", currentHologram.getName()));
+            }
             getMessageManager().sendMessage(sender, "reload.hologram_not_found", Map.of("name", hologramName));
             return true;
         }
 
-        if (!reloadedHologram.hasValidWorld()) {
-            getMessageManager().sendMessage(sender, "reload.hologram_world_invalid",
-                    Map.of("world", reloadedHologram.getLocation().getWorld(), "name", hologramName));
-            return true;
+        HologramDiff diff = HologramDiff.compute(
+                currentHologram != null ? List.of(currentHologram) : List.of(),
+                List.of(reloadedHologram));
+
+        for (Hologram hologram : displayManager.applyDiff(diff)) {
+            if (!displayManager.spawnHologram(hologram)) {
+                getMessageManager().sendMessage(sender, "reload.hologram_spawn_failed", Map.of("name", hologram.getName()));
+                return true;
+            }
         }
 
-        if (displayManager.spawnHologram(reloadedHologram)) {
-            long loadTime = System.currentTimeMillis() - startTime;
-            getMessageManager().sendMessage(sender, "reload.hologram_reloaded",
-                    Map.of("name", hologramName, "ms", String.valueOf(loadTime)));
-            return true;
-        } else {
-            getMessageManager().sendMessage(sender, "reload.hologram_spawn_failed", Map.of("name", hologramName));
+        if (reloadedHologram.isEnabled() && !reloadedHologram.hasValidWorld()) {
+            getMessageManager().sendMessage(sender, "reload.hologram_world_invalid",
+                    Map.of("world", reloadedHologram.getLocation().getWorld(), "name", reloadedHologram.getName()));
             return true;
         }
+
+        long loadTime = System.currentTimeMillis() - startTime;
+        getMessageManager().sendMessage(sender, "reload.hologram_reloaded",
+                Map.of("name", reloadedHologram.getName(), "ms", String.valueOf(loadTime)));
+        return true;
     }
 
     @Override
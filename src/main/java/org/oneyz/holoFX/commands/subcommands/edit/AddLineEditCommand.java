@@ -4,6 +4,7 @@ import org.bukkit.command.CommandSender;
 import org.oneyz.holoFX.HoloFX;
 import org.oneyz.holoFX.enums.TabCompleteType;
 import org.oneyz.holoFX.holograms.displays.HologramDisplay;
+import org.oneyz.holoFX.holograms.displays.LineLayout;
 import org.oneyz.holoFX.interfaces.commands.EditSubCommand;
 import org.oneyz.holoFX.interfaces.tabcomplete.TabCompleteConfig;
 import org.oneyz.holoFX.interfaces.tabcomplete.TabCompleteEdit;
@@ -53,11 +54,6 @@ public class AddLineEditCommand implements EditSubCommand {
 
             Hologram.Line newLine = Hologram.Line.builder()
                     .text(newText)
-                    .offset(Hologram.Offset.builder()
-                            .x(0.0)
-                            .y(-currentLines.size() * 0.25)
-                            .z(0.0)
-                            .build())
                     .displaySettings(Hologram.DisplaySettings.builder()
                             .textOpacity(Hologram.DisplaySettings.DEFAULT_TEXT_OPACITY)
                             .lineWidth(Hologram.DisplaySettings.DEFAULT_LINE_WIDTH)
@@ -68,19 +64,23 @@ public class AddLineEditCommand implements EditSubCommand {
                             .billboard(Hologram.DisplaySettings.DEFAULT_BILLBOARD)
                             .build())
                     .build();
-
-            currentLines.add(newLine);
-
-            hologramModel.setLines(currentLines);
-
-            plugin.getHologramDisplayManager().despawnHologram(hologramName);
-            if (!plugin.getHologramDisplayManager().spawnHologram(hologramModel)) {
+            // Leaderboard rows stay the last block of lines, so the new line goes directly above them
+            int firstRow = hologramModel.getFirstLeaderboardRow();
+            int insertAt = firstRow >= 0 ? firstRow : currentLines.size();
+            newLine.setOffset(Hologram.Offset.builder()
+                    .x(0.0)
+                    .y(LineLayout.getOffsetBelow(currentLines.subList(0, insertAt), newLine))
+                    .z(0.0)
+                    .build());
+
+            // The lines below (the leaderboard rows) move down in place; only the new line is spawned
+            if (!plugin.getHologramDisplayManager().insertLine(hologramName, insertAt, newLine)) {
                 getMessageManager().sendMessage(sender, "edit.addline.failed", Map.of("error", getMessageManager().getGeneralMessage("errors.hologram.spawn_failed", Map.of("world", hologramModel.getWorld().getName(), "name", hologramName))));
                 return true;
             }
 
             HologramLoader loader = plugin.getHologramLoader();
-            if (!loader.saveUpdatedHologramToFile(hologramName, currentLines)) {
+            if (!loader.saveUpdatedHologramToFile(hologramName, hologramModel.getLines())) {
                 getMessageManager().sendMessage(sender, "edit.addline.failed", Map.of("error", getMessageManager().getGeneralMessage("errors.files.save_failed", Map.of("name", hologramName))));
                 return true;
             }
@@ -67,6 +67,11 @@ public class EditLineEditCommand implements EditSubCommand {
                 return true;
             }
 
+            if (currentLines.get(lineNumber - 1).isLeaderboardRow()) {
+                getMessageManager().sendMessage(sender, "edit.leaderboard_row", Map.of("line", String.valueOf(lineNumber)));
+                return true;
+            }
+
             Hologram.Line lineToEdit = currentLines.get(lineNumber - 1);
 
             String oldText = lineToEdit.getTextAsString();
@@ -79,6 +84,8 @@ public class EditLineEditCommand implements EditSubCommand {
                     .text(newText)
                     .offset(lineToEdit.getOffset())
                     .displaySettings(lineToEdit.getDisplaySettings())
+                    .animation(lineToEdit.getAnimation())
+                    .motion(lineToEdit.getMotion())
                     .build();
 
             currentLines.set(lineNumber - 1, updatedLine);
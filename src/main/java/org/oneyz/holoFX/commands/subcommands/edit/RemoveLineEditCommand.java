@@ -64,22 +64,22 @@ public class RemoveLineEditCommand implements EditSubCommand {
                 return true;
             }
 
-            Hologram.Line removedLine = currentLines.remove(lineNumber - 1);
+            if (currentLines.get(lineNumber - 1).isLeaderboardRow()) {
+                getMessageManager().sendMessage(sender, "edit.leaderboard_row", Map.of("line", String.valueOf(lineNumber)));
+                return true;
+            }
 
-            if (currentLines.isEmpty()) {
+            if (currentLines.size() == 1) {
                 getMessageManager().sendMessage(sender, "edit.must_have_lines");
-                currentLines.add(lineNumber - 1, removedLine);
                 return true;
             }
 
-            hologramModel.setLines(currentLines);
-
-            plugin.getHologramDisplayManager().despawnHologram(hologramName);
-            if (!plugin.getHologramDisplayManager().spawnHologram(hologramModel)) {
-                getMessageManager().sendMessage(sender, "edit.removeline.failed", Map.of("error", getMessageManager().getGeneralMessage("errors.hologram.spawn_failed", Map.of("world", hologramModel.getWorld().getName(), "name", hologramName))));
-                currentLines.add(lineNumber - 1, removedLine);
+            // The lines below move up in place to close the gap; no entity is respawned
+            if (!plugin.getHologramDisplayManager().removeLine(hologramName, lineNumber - 1)) {
+                getMessageManager().sendMessage(sender, "edit.removeline.failed", Map.of("error", getMessageManager().getGeneralMessage("errors.hologram.update_failed", Map.of("name", hologramName))));
                 return true;
             }
+            currentLines = hologramModel.getLines();
 
             HologramLoader loader = plugin.getHologramLoader();
             if (!loader.saveUpdatedHologramToFile(hologramName, currentLines)) {
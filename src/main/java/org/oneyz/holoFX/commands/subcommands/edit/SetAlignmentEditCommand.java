@@ -4,6 +4,8 @@ import org.bukkit.command.CommandSender;
 import org.oneyz.holoFX.HoloFX;
 import org.oneyz.holoFX.enums.TabCompleteType;
 import org.oneyz.holoFX.holograms.displays.HologramDisplay;
+import org.oneyz.holoFX.holograms.displays.HologramDisplayManager;
+import org.oneyz.holoFX.holograms.properties.HologramProperties;
 import org.oneyz.holoFX.interfaces.commands.EditSubCommand;
 import org.oneyz.holoFX.interfaces.tabcomplete.TabCompleteConfig;
 import org.oneyz.holoFX.interfaces.tabcomplete.TabCompleteEdit;
@@ -12,8 +14,6 @@ import org.oneyz.holoFX.models.Hologram;
 import org.oneyz.holoFX.utils.Logger;
 import org.oneyz.holoFX.utils.MessageManager;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 
 @TabCompleteEdit({
@@ -40,23 +40,29 @@ public class SetAlignmentEditCommand implements EditSubCommand {
             return true;
         }
 
-        String alignmentStr;
         Integer lineNumber = null;
+        String valueStr;
 
         String firstArg = args[0];
         try {
             int possibleLineNum = Integer.parseInt(firstArg);
             if (args.length >= 2) {
                 lineNumber = possibleLineNum;
-                alignmentStr = args[1].toUpperCase();
+                valueStr = args[1];
             } else {
-                alignmentStr = firstArg.toUpperCase();
+                valueStr = firstArg;
             }
         } catch (NumberFormatException e) {
-            alignmentStr = firstArg.toUpperCase();
+            valueStr = firstArg;
         }
 
-        if (!alignmentStr.equals("CENTER") && !alignmentStr.equals("LEFT") && !alignmentStr.equals("RIGHT")) {
+        String alignment = HologramProperties.TEXT_ALIGNMENT.parse(valueStr);
+        if (alignment == null) {
+            getMessageManager().sendMessage(sender, "edit.setalignment.info");
+            return true;
+        }
+        if (!HologramProperties.TEXT_ALIGNMENT.isValid(alignment)) {
+            getMessageManager().sendMessage(sender, "edit.setalignment.invalid_alignment");
             getMessageManager().sendMessage(sender, "edit.setalignment.info");
             return true;
         }
@@ -69,101 +75,48 @@ public class SetAlignmentEditCommand implements EditSubCommand {
 
         try {
             Hologram hologramModel = display.getHologramConfig();
-            List<Hologram.Line> currentLines = new ArrayList<>(hologramModel.getLines());
+            HologramDisplayManager displayManager = plugin.getHologramDisplayManager();
+            int lineCount = hologramModel.getLines().size();
 
-            if (lineNumber != null) {
-                if (lineNumber < 1 || lineNumber > currentLines.size()) {
-                    getMessageManager().sendMessage(sender, "edit.line_number_out_of_range", Map.of("line", String.valueOf(lineNumber), "max_lines", String.valueOf(currentLines.size())));
-                    return true;
-                }
-
-                Hologram.Line line = currentLines.get(lineNumber - 1);
-                Hologram.DisplaySettings oldSettings = line.getDisplaySettings();
+            if (lineNumber != null && (lineNumber < 1 || lineNumber > lineCount)) {
+                getMessageManager().sendMessage(sender, "edit.line_number_out_of_range", Map.of("line", String.valueOf(lineNumber), "max_lines", String.valueOf(lineCount)));
+                return true;
+            }
 
-                Hologram.DisplaySettings updatedSettings = copyDisplaySettingsBuilder(oldSettings)
-                        .textAlignment(alignmentStr)
-                        .build();
+            boolean updated = lineNumber != null
+                    ? displayManager.updateProperty(hologramName, lineNumber - 1, HologramProperties.TEXT_ALIGNMENT, alignment)
+                    : displayManager.updateProperty(hologramName, HologramProperties.TEXT_ALIGNMENT, alignment);
 
-                Hologram.Line updatedLine = Hologram.Line.builder()
-                        .text(line.getText())
-                        .offset(line.getOffset())
-                        .displaySettings(updatedSettings)
-                        .build();
+            if (!updated) {
+                getMessageManager().sendMessage(sender, "edit.setalignment.failed", Map.of("error", getMessageManager().getGeneralMessage("errors.hologram.update_failed", Map.of("name", hologramName))));
+                return true;
+            }
 
-                currentLines.set(lineNumber - 1, updatedLine);
+            HologramLoader loader = plugin.getHologramLoader();
+            if (!loader.saveUpdatedHologramToFile(hologramName, hologramModel.getLines())) {
+                getMessageManager().sendMessage(sender, "edit.setalignment.failed", Map.of("error", getMessageManager().getGeneralMessage("errors.files.save_failed", Map.of("name", hologramName))));
+                return true;
+            }
 
+            if (lineNumber != null) {
                 getMessageManager().sendMessage(sender, "edit.setalignment.set_line", Map.of(
-                        "value", alignmentStr,
+                        "value", alignment,
                         "line", String.valueOf(lineNumber),
                         "name", hologramName
                 ));
             } else {
-                for (int i = 0; i < currentLines.size(); i++) {
-                    Hologram.Line line = currentLines.get(i);
-                    Hologram.DisplaySettings oldSettings = line.getDisplaySettings();
-
-                    Hologram.DisplaySettings updatedSettings = copyDisplaySettingsBuilder(oldSettings)
-                            .textAlignment(alignmentStr)
-                            .build();
-
-                    Hologram.Line updatedLine = Hologram.Line.builder()
-                            .text(line.getText())
-                            .offset(line.getOffset())
-                            .displaySettings(updatedSettings)
-                            .build();
-
-                    currentLines.set(i, updatedLine);
-                }
-
                 getMessageManager().sendMessage(sender, "edit.setalignment.set", Map.of(
-                        "value", alignmentStr,
+                        "value", alignment,
                         "name", hologramName
                 ));
             }
 
-            hologramModel.setLines(currentLines);
-
-            plugin.getHologramDisplayManager().despawnHologram(hologramName);
-            if (!plugin.getHologramDisplayManager().spawnHologram(hologramModel)) {
-                getMessageManager().sendMessage(sender, "edit.setalignment.failed", Map.of("error", getMessageManager().getGeneralMessage("errors.hologram.spawn_failed", Map.of("world", hologramModel.getWorld().getName(), "name", hologramName))));
-                return false;
-            }
-
-            HologramLoader loader = plugin.getHologramLoader();
-            if (!loader.saveUpdatedHologramToFile(hologramName, currentLines)) {
-                getMessageManager().sendMessage(sender, "edit.setalignment.failed", Map.of("error", getMessageManager().getGeneralMessage("errors.files.save_failed", Map.of("name", hologramName))));
-                return false;
-            }
-
             return true;
 
         } catch (Exception e) {
             getMessageManager().sendMessage(sender, "edit.setalignment.failed", Map.of("error", e.getMessage()));
             Logger.severe("Error setting alignment for hologram: " + hologramName, e);
-            return false;
+            return true;
         }
     }
-
-    private Hologram.DisplaySettings.DisplaySettingsBuilder copyDisplaySettingsBuilder(Hologram.DisplaySettings settings) {
-        return Hologram.DisplaySettings.builder()
-                .textOpacity(settings.getTextOpacity())
-                .lineWidth(settings.getLineWidth())
-                .textAlignment(settings.getTextAlignment())
-                .background(settings.getBackground())
-                .defaultBackground(settings.isDefaultBackground())
-                .seeThrough(settings.isSeeThrough())
-                .shadow(settings.isShadow())
-                .billboard(settings.getBillboard())
-                .permission(settings.getPermission())
-                .brightness(settings.getBrightness())
-                .shadowRadius(settings.getShadowRadius())
-                .shadowStrength(settings.getShadowStrength())
-                .viewRange(settings.getViewRange())
-                .translation(settings.getTranslation())
-                .rightRotationQuaternion(settings.getRightRotationQuaternion())
-                .scale(settings.getScale())
-                .leftRotationQuaternion(settings.getLeftRotationQuaternion());
-    }
-
 }
-
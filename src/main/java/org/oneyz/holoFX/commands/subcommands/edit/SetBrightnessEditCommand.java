@@ -4,6 +4,9 @@ import org.bukkit.command.CommandSender;
 import org.oneyz.holoFX.HoloFX;
 import org.oneyz.holoFX.enums.TabCompleteType;
 import org.oneyz.holoFX.holograms.displays.HologramDisplay;
+import org.oneyz.holoFX.holograms.displays.HologramDisplayManager;
+import org.oneyz.holoFX.holograms.properties.HologramProperties;
+import org.oneyz.holoFX.holograms.properties.HologramProperty;
 import org.oneyz.holoFX.interfaces.commands.EditSubCommand;
 import org.oneyz.holoFX.interfaces.tabcomplete.TabCompleteConfig;
 import org.oneyz.holoFX.interfaces.tabcomplete.TabCompleteEdit;
@@ -12,8 +15,6 @@ import org.oneyz.holoFX.models.Hologram;
 import org.oneyz.holoFX.utils.Logger;
 import org.oneyz.holoFX.utils.MessageManager;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 
 @TabCompleteEdit({
@@ -50,6 +51,9 @@ public class SetBrightnessEditCommand implements EditSubCommand {
             getMessageManager().sendMessage(sender, "edit.setbrightness.invalid_type");
             return true;
         }
+        HologramProperty<Integer> property = type.equals("sky")
+                ? HologramProperties.BRIGHTNESS_SKY
+                : HologramProperties.BRIGHTNESS_BLOCK;
 
         if (args.length >= 3) {
             try {
@@ -63,17 +67,15 @@ public class SetBrightnessEditCommand implements EditSubCommand {
             brightnessArg = args[1];
         }
 
-        int brightnessValue;
-        try {
-            brightnessValue = Integer.parseInt(brightnessArg);
-            if (brightnessValue < 0 || brightnessValue > 15) {
-                getMessageManager().sendMessage(sender, "edit.setbrightness.invalid_brightness");
-                return true;
-            }
-        } catch (NumberFormatException e) {
+        Integer brightnessValue = property.parse(brightnessArg);
+        if (brightnessValue == null) {
             getMessageManager().sendMessage(sender, "edit.setbrightness.brightness_not_number");
             return true;
         }
+        if (!property.isValid(brightnessValue)) {
+            getMessageManager().sendMessage(sender, "edit.setbrightness.invalid_brightness");
+            return true;
+        }
 
         HologramDisplay display = plugin.getHologramDisplayManager().getHologram(hologramName);
         if (display == null) {
@@ -83,19 +85,33 @@ public class SetBrightnessEditCommand implements EditSubCommand {
 
         try {
             Hologram hologramModel = display.getHologramConfig();
-            List<Hologram.Line> lines = new ArrayList<>(hologramModel.getLines());
+            HologramDisplayManager displayManager = plugin.getHologramDisplayManager();
+            int lineCount = hologramModel.getLines().size();
 
-            if (lineNumber != null) {
-                if (lineNumber < 1 || lineNumber > lines.size()) {
-                    getMessageManager().sendMessage(sender, "edit.line_number_out_of_range", Map.of(
-                            "line", String.valueOf(lineNumber),
-                            "max_lines", String.valueOf(lines.size())
-                    ));
-                    return true;
-                }
+            if (lineNumber != null && (lineNumber < 1 || lineNumber > lineCount)) {
+                getMessageManager().sendMessage(sender, "edit.line_number_out_of_range", Map.of(
+                        "line", String.valueOf(lineNumber),
+                        "max_lines", String.valueOf(lineCount)
+                ));
+                return true;
+            }
 
-                updateLineBrightness(lines, lineNumber - 1, type, brightnessValue);
+            boolean updated = lineNumber != null
+                    ? displayManager.updateProperty(hologramName, lineNumber - 1, property, brightnessValue)
+                    : displayManager.updateProperty(hologramName, property, brightnessValue);
 
+            if (!updated) {
+                getMessageManager().sendMessage(sender, "edit.setbrightness.failed", Map.of("error", getMessageManager().getGeneralMessage("errors.hologram.update_failed", Map.of("name", hologramName))));
+                return true;
+            }
+
+            HologramLoader loader = plugin.getHologramLoader();
+            if (!loader.saveUpdatedHologramToFile(hologramName, hologramModel.getLines())) {
+                getMessageManager().sendMessage(sender, "edit.setbrightness.failed", Map.of("error", getMessageManager().getGeneralMessage("errors.files.save_failed", Map.of("name", hologramName))));
+                return true;
+            }
+
+            if (lineNumber != null) {
                 getMessageManager().sendMessage(sender, "edit.setbrightness.set_line", Map.of(
                         "type", type,
                         "value", String.valueOf(brightnessValue),
@@ -103,10 +119,6 @@ public class SetBrightnessEditCommand implements EditSubCommand {
                         "name", hologramName
                 ));
             } else {
-                for (int i = 0; i < lines.size(); i++) {
-                    updateLineBrightness(lines, i, type, brightnessValue);
-                }
-
                 getMessageManager().sendMessage(sender, "edit.setbrightness.set", Map.of(
                         "type", type,
                         "value", String.valueOf(brightnessValue),
@@ -114,20 +126,6 @@ public class SetBrightnessEditCommand implements EditSubCommand {
                 ));
             }
 
-            hologramModel.setLines(lines);
-
-            plugin.getHologramDisplayManager().despawnHologram(hologramName);
-            if (!plugin.getHologramDisplayManager().spawnHologram(hologramModel)) {
-                getMessageManager().sendMessage(sender, "edit.setbrightness.failed", Map.of("error", getMessageManager().getGeneralMessage("errors.hologram.spawn_failed", Map.of("world", hologramModel.getWorld().getName(), "name", hologramName))));
-                return true;
-            }
-
-            HologramLoader loader = plugin.getHologramLoader();
-            if (!loader.saveUpdatedHologramToFile(hologramName, lines)) {
-                getMessageManager().sendMessage(sender, "edit.setbrightness.failed", Map.of("error", getMessageManager().getGeneralMessage("errors.files.save_failed", Map.of("name", hologramName))));
-                return true;
-            }
-
             return true;
 
         } catch (Exception e) {
@@ -136,55 +134,4 @@ public class SetBrightnessEditCommand implements EditSubCommand {
             return true;
         }
     }
-
-    private void updateLineBrightness(List<Hologram.Line> lines, int index, String type, int value) {
-        Hologram.Line line = lines.get(index);
-        Hologram.DisplaySettings oldSettings = line.getDisplaySettings();
-
-        int sky = 0;
-        int block = 0;
-
-        if (oldSettings != null && oldSettings.getBrightness() != null) {
-            sky = (oldSettings.getBrightness() >> 4) & 0x0F;
-            block = oldSettings.getBrightness() & 0x0F;
-        }
-
-        if (type.equals("sky")) {
-            sky = value;
-        } else {
-            block = value;
-        }
-
-        int brightness = (sky << 4) | block;
-
-        Hologram.DisplaySettings newSettings = copyDisplaySettingsBuilder(oldSettings)
-                .brightness(brightness)
-                .build();
-
-        lines.set(index, Hologram.Line.builder()
-                .text(line.getText())
-                .offset(line.getOffset())
-                .displaySettings(newSettings)
-                .build());
-    }
-
-    private Hologram.DisplaySettings.DisplaySettingsBuilder copyDisplaySettingsBuilder(Hologram.DisplaySettings settings) {
-        return Hologram.DisplaySettings.builder()
-                .textOpacity(settings.getTextOpacity())
-                .lineWidth(settings.getLineWidth())
-                .textAlignment(settings.getTextAlignment())
-                .background(settings.getBackground())
-                .defaultBackground(settings.isDefaultBackground())
-                .seeThrough(settings.isSeeThrough())
-                .shadow(settings.isShadow())
-                .billboard(settings.getBillboard())
-                .permission(settings.getPermission())
-                .brightness(settings.getBrightness())
-                .shadowRadius(settings.getShadowRadius())
-                .viewRange(settings.getViewRange())
-                .translation(settings.getTranslation())
-                .rightRotationQuaternion(settings.getRightRotationQuaternion())
-                .scale(settings.getScale())
-                .leftRotationQuaternion(settings.getLeftRotationQuaternion());
-    }
 }
@@ -4,6 +4,8 @@ import org.bukkit.command.CommandSender;
 import org.oneyz.holoFX.HoloFX;
 import org.oneyz.holoFX.enums.TabCompleteType;
 import org.oneyz.holoFX.holograms.displays.HologramDisplay;
+import org.oneyz.holoFX.holograms.displays.HologramDisplayManager;
+import org.oneyz.holoFX.holograms.properties.HologramProperties;
 import org.oneyz.holoFX.interfaces.commands.EditSubCommand;
 import org.oneyz.holoFX.interfaces.tabcomplete.TabCompleteConfig;
 import org.oneyz.holoFX.interfaces.tabcomplete.TabCompleteEdit;
@@ -12,7 +14,6 @@ import org.oneyz.holoFX.models.Hologram;
 import org.oneyz.holoFX.utils.Logger;
 import org.oneyz.holoFX.utils.MessageManager;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -42,7 +43,7 @@ public class SetLeftRotationEditCommand implements EditSubCommand {
         }
 
         Integer lineNumber = null;
-        String rotationArg;
+        String valueStr;
 
         if (args.length >= 2) {
             try {
@@ -51,13 +52,13 @@ public class SetLeftRotationEditCommand implements EditSubCommand {
                 getMessageManager().sendMessage(sender, "edit.line_must_be_number");
                 return true;
             }
-            rotationArg = args[1];
+            valueStr = args[1];
         } else {
-            rotationArg = args[0];
+            valueStr = args[0];
         }
 
-        List<Float> rotationValues = parseQuaternion(rotationArg);
-        if (rotationValues == null || rotationValues.size() != 4) {
+        List<Float> rotationValues = HologramProperties.LEFT_ROTATION.parse(valueStr);
+        if (rotationValues == null) {
             getMessageManager().sendMessage(sender, "edit.setleftrotation.invalid_format");
             getMessageManager().sendMessage(sender, "edit.setleftrotation.example");
             return true;
@@ -71,67 +72,45 @@ public class SetLeftRotationEditCommand implements EditSubCommand {
 
         try {
             Hologram hologramModel = display.getHologramConfig();
-            List<Hologram.Line> currentLines = new ArrayList<>(hologramModel.getLines());
+            HologramDisplayManager displayManager = plugin.getHologramDisplayManager();
+            int lineCount = hologramModel.getLines().size();
 
-            if (lineNumber != null) {
-                if (lineNumber < 1 || lineNumber > currentLines.size()) {
-                    getMessageManager().sendMessage(sender, "edit.line_number_out_of_range", Map.of(
-                            "line", String.valueOf(lineNumber),
-                            "max_lines", String.valueOf(currentLines.size())
-                    ));
-                    return true;
-                }
-
-                updateLineLeftRotation(currentLines, lineNumber - 1, rotationValues);
-
-                hologramModel.setLines(currentLines);
-
-                plugin.getHologramDisplayManager().despawnHologram(hologramName);
-                if (!plugin.getHologramDisplayManager().spawnHologram(hologramModel)) {
-                    getMessageManager().sendMessage(sender, "edit.setleftrotation.failed", Map.of("error", getMessageManager().getGeneralMessage("errors.hologram.spawn_failed", Map.of("world", hologramModel.getWorld().getName(), "name", hologramName))));
-                    return true;
-                }
-
-                HologramLoader loader = plugin.getHologramLoader();
-                if (!loader.saveUpdatedHologramToFile(hologramName, currentLines)) {
-                    getMessageManager().sendMessage(sender, "edit.setleftrotation.failed", Map.of("error", getMessageManager().getGeneralMessage("errors.files.save_failed", Map.of("name", hologramName))));
-                    return true;
-                }
+            if (lineNumber != null && (lineNumber < 1 || lineNumber > lineCount)) {
+                getMessageManager().sendMessage(sender, "edit.line_number_out_of_range", Map.of("line", String.valueOf(lineNumber), "max_lines", String.valueOf(lineCount)));
+                return true;
+            }
 
+            boolean updated = lineNumber != null
+                    ? displayManager.updateProperty(hologramName, lineNumber - 1, HologramProperties.LEFT_ROTATION, rotationValues)
+                    : displayManager.updateProperty(hologramName, HologramProperties.LEFT_ROTATION, rotationValues);
+
+            if (!updated) {
+                getMessageManager().sendMessage(sender, "edit.setleftrotation.failed", Map.of("error", getMessageManager().getGeneralMessage("errors.hologram.update_failed", Map.of("name", hologramName))));
+                return true;
+            }
+
+            HologramLoader loader = plugin.getHologramLoader();
+            if (!loader.saveUpdatedHologramToFile(hologramName, hologramModel.getLines())) {
+                getMessageManager().sendMessage(sender, "edit.setleftrotation.failed", Map.of("error", getMessageManager().getGeneralMessage("errors.files.save_failed", Map.of("name", hologramName))));
+                return true;
+            }
+
+            if (lineNumber != null) {
                 getMessageManager().sendMessage(sender, "edit.setleftrotation.set_line", Map.of(
-                        "name", hologramName,
-                        "line", String.valueOf(lineNumber),
                         "x", rotationValues.get(0).toString(),
                         "y", rotationValues.get(1).toString(),
                         "z", rotationValues.get(2).toString(),
-                        "w", rotationValues.get(3).toString()
+                        "w", rotationValues.get(3).toString(),
+                        "line", String.valueOf(lineNumber),
+                        "name", hologramName
                 ));
-
             } else {
-                for (int i = 0; i < currentLines.size(); i++) {
-                    updateLineLeftRotation(currentLines, i, rotationValues);
-                }
-
-                hologramModel.setLines(currentLines);
-
-                plugin.getHologramDisplayManager().despawnHologram(hologramName);
-                if (!plugin.getHologramDisplayManager().spawnHologram(hologramModel)) {
-                    getMessageManager().sendMessage(sender, "edit.setleftrotation.failed", Map.of("error", getMessageManager().getGeneralMessage("errors.hologram.spawn_failed", Map.of("world", hologramModel.getWorld().getName(), "name", hologramName))));
-                    return true;
-                }
-
-                HologramLoader loader = plugin.getHologramLoader();
-                if (!loader.saveUpdatedHologramToFile(hologramName, currentLines)) {
-                    getMessageManager().sendMessage(sender, "edit.setleftrotation.failed", Map.of("error", getMessageManager().getGeneralMessage("errors.files.save_failed", Map.of("name", hologramName))));
-                    return true;
-                }
-
                 getMessageManager().sendMessage(sender, "edit.setleftrotation.set", Map.of(
-                        "name", hologramName,
                         "x", rotationValues.get(0).toString(),
                         "y", rotationValues.get(1).toString(),
                         "z", rotationValues.get(2).toString(),
-                        "w", rotationValues.get(3).toString()
+                        "w", rotationValues.get(3).toString(),
+                        "name", hologramName
                 ));
             }
 
@@ -143,77 +122,4 @@ public class SetLeftRotationEditCommand implements EditSubCommand {
             return true;
         }
     }
-
-    private void updateLineLeftRotation(List<Hologram.Line> lines, int index, List<Float> rotationValues) {
-        Hologram.Line line = lines.get(index);
-        Hologram.DisplaySettings oldSettings = line.getDisplaySettings();
-
-        Hologram.DisplaySettings.DisplaySettingsBuilder builder = copyDisplaySettingsBuilder(oldSettings);
-
-        builder.leftRotationQuaternion(rotationValues);
-
-        Hologram.DisplaySettings updatedSettings = builder.build();
-
-        Hologram.Line updatedLine = Hologram.Line.builder()
-                .text(line.getText())
-                .offset(line.getOffset())
-                .displaySettings(updatedSettings)
-                .build();
-
-        lines.set(index, updatedLine);
-    }
-
-    private List<Float> parseQuaternion(String input) {
-        try {
-            if (!input.startsWith("[") || !input.endsWith("]")) {
-                return null;
-            }
-
-            String content = input.substring(1, input.length() - 1);
-            String[] parts = content.split(",");
-
-            if (parts.length != 4) {
-                return null;
-            }
-
-            List<Float> values = new ArrayList<>();
-            for (String part : parts) {
-                values.add(Float.parseFloat(part.trim()));
-            }
-
-            return values;
-        } catch (Exception e) {
-            return null;
-        }
-    }
-
-    /**
-     * Safe copy: if settings is null, returns a fresh builder; otherwise copies available fields.
-     */
-    private Hologram.DisplaySettings.DisplaySettingsBuilder copyDisplaySettingsBuilder(Hologram.DisplaySettings settings) {
-        Hologram.DisplaySettings.DisplaySettingsBuilder b = Hologram.DisplaySettings.builder();
-        if (settings == null) {
-            return b;
-        }
-
-        b.textOpacity(settings.getTextOpacity())
-                .lineWidth(settings.getLineWidth())
-                .textAlignment(settings.getTextAlignment())
-                .background(settings.getBackground())
-                .defaultBackground(settings.isDefaultBackground())
-                .seeThrough(settings.isSeeThrough())
-                .shadow(settings.isShadow())
-                .billboard(settings.getBillboard())
-                .permission(settings.getPermission())
-                .brightness(settings.getBrightness())
-                .shadowRadius(settings.getShadowRadius())
-                .shadowStrength(settings.getShadowStrength())
-                .viewRange(settings.getViewRange())
-                .translation(settings.getTranslation())
-                .rightRotationQuaternion(settings.getRightRotationQuaternion())
-                .scale(settings.getScale())
-                .leftRotationQuaternion(settings.getLeftRotationQuaternion());
-
-        return b;
-    }
 }
@@ -4,6 +4,8 @@ import org.bukkit.command.CommandSender;
 import org.oneyz.holoFX.HoloFX;
 import org.oneyz.holoFX.enums.TabCompleteType;
 import org.oneyz.holoFX.holograms.displays.HologramDisplay;
+import org.oneyz.holoFX.holograms.displays.HologramDisplayManager;
+import org.oneyz.holoFX.holograms.properties.HologramProperties;
 import org.oneyz.holoFX.interfaces.commands.EditSubCommand;
 import org.oneyz.holoFX.interfaces.tabcomplete.TabCompleteConfig;
 import org.oneyz.holoFX.interfaces.tabcomplete.TabCompleteEdit;
@@ -12,8 +14,6 @@ import org.oneyz.holoFX.models.Hologram;
 import org.oneyz.holoFX.utils.Logger;
 import org.oneyz.holoFX.utils.MessageManager;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 
 @TabCompleteEdit({
@@ -39,9 +39,9 @@ public class SetOffsetZEditCommand implements EditSubCommand {
             return true;
         }
 
-        double offsetValue;
         Integer lineNumber = null;
         String valueStr;
+
         String firstArg = args[0];
         try {
             int possibleLineNum = Integer.parseInt(firstArg);
@@ -55,9 +55,8 @@ public class SetOffsetZEditCommand implements EditSubCommand {
             valueStr = firstArg;
         }
 
-        try {
-            offsetValue = Double.parseDouble(valueStr);
-        } catch (NumberFormatException e) {
+        Double offsetValue = HologramProperties.OFFSET_Z.parse(valueStr);
+        if (offsetValue == null) {
             getMessageManager().sendMessage(sender, "edit.setoffsetz.invalid_number");
             return true;
         }
@@ -70,73 +69,42 @@ public class SetOffsetZEditCommand implements EditSubCommand {
 
         try {
             Hologram hologramModel = display.getHologramConfig();
-            List<Hologram.Line> currentLines = new ArrayList<>(hologramModel.getLines());
+            HologramDisplayManager displayManager = plugin.getHologramDisplayManager();
+            int lineCount = hologramModel.getLines().size();
+
+            if (lineNumber != null && (lineNumber < 1 || lineNumber > lineCount)) {
+                getMessageManager().sendMessage(sender, "edit.line_number_out_of_range", Map.of("line", String.valueOf(lineNumber), "max_lines", String.valueOf(lineCount)));
+                return true;
+            }
+
+            boolean updated = lineNumber != null
+                    ? displayManager.updateProperty(hologramName, lineNumber - 1, HologramProperties.OFFSET_Z, offsetValue)
+                    : displayManager.updateProperty(hologramName, HologramProperties.OFFSET_Z, offsetValue);
+
+            if (!updated) {
+                getMessageManager().sendMessage(sender, "edit.setoffsetz.failed", Map.of("error", getMessageManager().getGeneralMessage("errors.hologram.update_failed", Map.of("name", hologramName))));
+                return true;
+            }
+
+            HologramLoader loader = plugin.getHologramLoader();
+            if (!loader.saveUpdatedHologramToFile(hologramName, hologramModel.getLines())) {
+                getMessageManager().sendMessage(sender, "edit.setoffsetz.failed", Map.of("error", getMessageManager().getGeneralMessage("errors.files.save_failed", Map.of("name", hologramName))));
+                return true;
+            }
+
             if (lineNumber != null) {
-                if (lineNumber < 1 || lineNumber > currentLines.size()) {
-                    getMessageManager().sendMessage(sender, "edit.line_number_out_of_range", Map.of("line", String.valueOf(lineNumber), "max_lines", String.valueOf(currentLines.size())));
-                    return true;
-                }
-
-                Hologram.Line line = currentLines.get(lineNumber - 1);
-                Hologram.Offset oldOffset = line.getOffset();
-
-                Hologram.Offset updatedOffset = Hologram.Offset.builder()
-                        .x(oldOffset.getX())
-                        .y(oldOffset.getY())
-                        .z(offsetValue)
-                        .build();
-
-                Hologram.Line updatedLine = Hologram.Line.builder()
-                        .text(line.getText())
-                        .offset(updatedOffset)
-                        .displaySettings(line.getDisplaySettings())
-                        .build();
-
-                currentLines.set(lineNumber - 1, updatedLine);
                 getMessageManager().sendMessage(sender, "edit.setoffsetz.set_line", Map.of(
                         "value", formatDouble(offsetValue),
                         "line", String.valueOf(lineNumber),
                         "name", hologramName
                 ));
             } else {
-                for (int i = 0; i < currentLines.size(); i++) {
-                    Hologram.Line line = currentLines.get(i);
-                    Hologram.Offset oldOffset = line.getOffset();
-
-                    Hologram.Offset updatedOffset = Hologram.Offset.builder()
-                            .x(oldOffset.getX())
-                            .y(oldOffset.getY())
-                            .z(offsetValue)
-                            .build();
-
-                    Hologram.Line updatedLine = Hologram.Line.builder()
-                            .text(line.getText())
-                            .offset(updatedOffset)
-                            .displaySettings(line.getDisplaySettings())
-                            .build();
-
-                    currentLines.set(i, updatedLine);
-                }
                 getMessageManager().sendMessage(sender, "edit.setoffsetz.set", Map.of(
                         "value", formatDouble(offsetValue),
                         "name", hologramName
                 ));
             }
 
-            hologramModel.setLines(currentLines);
-
-            plugin.getHologramDisplayManager().despawnHologram(hologramName);
-            if (!plugin.getHologramDisplayManager().spawnHologram(hologramModel)) {
-                getMessageManager().sendMessage(sender, "edit.setoffsetz.failed", Map.of("error", getMessageManager().getGeneralMessage("errors.hologram.spawn_failed", Map.of("world", hologramModel.getWorld().getName(), "name", hologramName))));
-                return true;
-            }
-
-            HologramLoader loader = plugin.getHologramLoader();
-            if (!loader.saveUpdatedHologramToFile(hologramName, currentLines)) {
-                getMessageManager().sendMessage(sender, "edit.setoffsetz.failed", Map.of("error", getMessageManager().getGeneralMessage("errors.files.save_failed", Map.of("name", hologramName))));
-                return true;
-            }
-
             return true;
 
         } catch (Exception e) {
@@ -154,4 +122,3 @@ public class SetOffsetZEditCommand implements EditSubCommand {
         }
     }
 }
-
@@ -0,0 +1,36 @@
+package org.oneyz.holoFX.events;
+
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.EntitiesLoadEvent;
+import org.oneyz.holoFX.holograms.displays.HologramDisplayManager;
+
+/**
+ * Event listener for chunk-related events
+ */
+public class ChunkEventListener implements Listener {
+
+    private final HologramDisplayManager displayManager;
+
+    public ChunkEventListener(HologramDisplayManager displayManager) {
+        this.displayManager = displayManager;
+    }
+
+    /**
+     * Handle chunk load - respawn non-persistent hologram lines located in this chunk
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkLoad(ChunkLoadEvent event) {
+        displayManager.handleChunkLoad(event.getWorld(), event.getChunk().getX(), event.getChunk().getZ());
+    }
+
+    /**
+     * Handle entities load - reattach surviving hologram displays to their lines
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntitiesLoad(EntitiesLoadEvent event) {
+        displayManager.handleEntitiesLoad(event.getEntities());
+    }
+}
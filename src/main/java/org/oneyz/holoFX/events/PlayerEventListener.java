@@ -3,6 +3,8 @@ package org.oneyz.holoFX.events;
 import org.bukkit.Bukkit;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
+import org.bukkit.event.block.Action;
+import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 import org.oneyz.holoFX.HoloFX;
@@ -42,6 +44,19 @@ public class PlayerEventListener implements Listener {
     @EventHandler
     public void onPlayerQuit(PlayerQuitEvent event) {
         visibilityManager.clearPlayerCache(event.getPlayer());
+        plugin.getMoveSessionManager().endSession(event.getPlayer(), true);
+    }
+
+    /**
+     * Handle clicks - switch the page of a paged hologram the player is looking at.
+     * Text displays have no hitbox, so the click is matched against the hologram's area instead.
+     */
+    @EventHandler
+    public void onPlayerInteract(PlayerInteractEvent event) {
+        if (event.getAction() == Action.PHYSICAL) {
+            return;
+        }
+        displayManager.getPageScheduler().handleClick(event.getPlayer());
     }
 }
 
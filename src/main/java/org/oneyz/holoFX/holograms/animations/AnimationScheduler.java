@@ -0,0 +1,282 @@
+package org.oneyz.holoFX.holograms.animations;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.TextDisplay;
+import org.bukkit.scheduler.BukkitTask;
+import org.oneyz.holoFX.HoloFX;
+import org.oneyz.holoFX.holograms.displays.HologramDisplay;
+import org.oneyz.holoFX.holograms.displays.HologramDisplayManager;
+import org.oneyz.holoFX.holograms.displays.TextDisplayManager;
+import org.oneyz.holoFX.models.Hologram;
+
+import java.util.*;
+
+/**
+ * Drives every animated and moving line from one task using a hashed timing wheel.
+ * Each text animation and each motion is an entry in the bucket of the tick its next frame or
+ * keyframe is due, so a tick only visits the entries of one bucket instead of every animated line.
+ * Due entries are grouped per hologram, so the display is looked up once per hologram and tick.
+ * Motion keyframes are interpolated by the client, so a moving line costs nothing between keyframes.
+ */
+public class AnimationScheduler {
+
+    /**
+     * Number of buckets, a power of two. Entries due more than one revolution ahead stay in
+     * their bucket and are skipped until their tick comes around.
+     */
+    private static final int WHEEL_SIZE = 256;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    private static final long MOTION_START_DELAY_TICKS = 2L;
+
+    /**
+     * Text animation or motion state of a single line; exactly one of animation and motion is set
+     */
+    private static final class Entry {
+        private final String hologramName;
+        private final int lineIndex;
+        private final Hologram.Animation animation;
+        private final Hologram.Motion motion;
+        private int frameIndex; // Frame or keyframe index
+        private long dueTick;
+        private boolean cancelled;
+
+        // Interpolation delay still to send; only the first keyframe is delayed, later ones follow on directly
+        private int pendingDelayTicks;
+
+        // Last state sent to the entity, so unchanged frames cost nothing
+        private TextDisplay lastEntity;
+        private String lastText;
+        private int lastOpacity = -1;
+
+        private Entry(String hologramName, int lineIndex, Hologram.Animation animation, Hologram.Motion motion) {
+            this.hologramName = hologramName;
+            this.lineIndex = lineIndex;
+            this.animation = animation;
+            this.motion = motion;
+        }
+
+        private int getStepCount() {
+            return animation != null ? animation.getFrames().size() : motion.getKeyframes().size();
+        }
+
+        /**
+         * Ticks until the step after the current one is due
+         */
+        private int getCurrentStepTicks() {
+            return animation != null
+                    ? animation.getIntervalTicks()
+                    : motion.getKeyframes().get(frameIndex).getDurationTicks();
+        }
+
+        /**
+         * Check if the entry still belongs to the line, i.e. the line was not replaced or moved
+         */
+        private boolean matches(Hologram.Line line) {
+            return animation != null ? line.getAnimation() == animation : line.getMotion() == motion;
+        }
+    }
+
+    private final HoloFX plugin;
+    private final HologramDisplayManager displayManager;
+    private final List<List<Entry>> wheel = new ArrayList<>(WHEEL_SIZE);
+
+    /**
+     * Hologram name -> its animated lines
+     */
+    private final Map<String, List<Entry>> hologramEntries = new HashMap<>();
+
+    private BukkitTask task;
+    private long currentTick;
+
+    public AnimationScheduler(HoloFX plugin, HologramDisplayManager displayManager) {
+        this.plugin = plugin;
+        this.displayManager = displayManager;
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel.add(new ArrayList<>());
+        }
+    }
+
+    public void start() {
+        stop();
+        task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+    }
+
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    /**
+     * Schedule the animated and moving lines of a spawned or changed hologram and show their first frame and keyframe
+     */
+    public void index(HologramDisplay display) {
+        String hologramName = display.getHologramName();
+        unindex(hologramName);
+
+        List<Hologram.Line> lines = display.getHologramConfig().getLines();
+        List<Entry> entries = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            Hologram.Line line = lines.get(i);
+            if (line.getAnimation() != null) {
+                entries.add(new Entry(hologramName, i, line.getAnimation(), null));
+            }
+            if (line.getMotion() != null) {
+                entries.add(new Entry(hologramName, i, null, line.getMotion()));
+            }
+        }
+
+        for (Entry entry : entries) {
+            if (entry.motion != null) {
+                // Entities spawned this tick would receive the first keyframe with their spawn data and
+                // skip its interpolation, so motion starts on a later tick, wrapping around to keyframe 0
+                entry.frameIndex = entry.getStepCount() - 1;
+                entry.pendingDelayTicks = entry.motion.getStartDelayTicks();
+                schedule(entry, currentTick + MOTION_START_DELAY_TICKS);
+                continue;
+            }
+            apply(display, lines.get(entry.lineIndex), entry);
+            schedule(entry, currentTick + entry.getCurrentStepTicks());
+        }
+
+        if (!entries.isEmpty()) {
+            hologramEntries.put(hologramName, entries);
+        }
+    }
+
+    /**
+     * Stop animating a hologram. Its entries are dropped from the wheel when their bucket is next visited.
+     */
+    public void unindex(String hologramName) {
+        List<Entry> entries = hologramEntries.remove(hologramName);
+        if (entries != null) {
+            for (Entry entry : entries) {
+                entry.cancelled = true;
+            }
+        }
+    }
+
+    /**
+     * Stop animating every hologram
+     */
+    public void clear() {
+        hologramEntries.clear();
+        for (List<Entry> bucket : wheel) {
+            bucket.clear();
+        }
+    }
+
+    /**
+     * Get the number of scheduled text animations and motions
+     */
+    public int getEntryCount() {
+        int count = 0;
+        for (List<Entry> entries : hologramEntries.values()) {
+            count += entries.size();
+        }
+        return count;
+    }
+
+    private void schedule(Entry entry, long dueTick) {
+        entry.dueTick = dueTick;
+        wheel.get((int) (dueTick & WHEEL_MASK)).add(entry);
+    }
+
+    /**
+     * Advance the entries of the current bucket that are due
+     */
+    private void tick() {
+        currentTick++;
+        List<Entry> bucket = wheel.get((int) (currentTick & WHEEL_MASK));
+        if (bucket.isEmpty()) {
+            return;
+        }
+
+        Map<String, List<Entry>> due = new LinkedHashMap<>();
+        Iterator<Entry> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.cancelled) {
+                iterator.remove();
+            } else if (entry.dueTick <= currentTick) {
+                iterator.remove();
+                due.computeIfAbsent(entry.hologramName, key -> new ArrayList<>()).add(entry);
+            }
+        }
+
+        for (Map.Entry<String, List<Entry>> group : due.entrySet()) {
+            advanceHologram(group.getKey(), group.getValue());
+        }
+    }
+
+    /**
+     * Show the next frame or keyframe of the due lines of one hologram and reschedule them
+     */
+    private void advanceHologram(String hologramName, List<Entry> entries) {
+        HologramDisplay display = displayManager.getHologram(hologramName);
+        if (display == null) {
+            unindex(hologramName);
+            return;
+        }
+
+        List<Hologram.Line> lines = display.getHologramConfig().getLines();
+        for (Entry entry : entries) {
+            if (entry.lineIndex >= lines.size() || !entry.matches(lines.get(entry.lineIndex))) {
+                // Lines were added, removed or edited in place; rebuild the hologram's entries
+                index(display);
+                return;
+            }
+
+            entry.frameIndex = (entry.frameIndex + 1) % entry.getStepCount();
+            if (display.isActive()) {
+                apply(display, lines.get(entry.lineIndex), entry);
+            }
+            // The client starts interpolating after the delay, so the next keyframe is due that much later
+            schedule(entry, currentTick + entry.pendingDelayTicks + entry.getCurrentStepTicks());
+            entry.pendingDelayTicks = 0;
+        }
+    }
+
+    /**
+     * Send the current frame or keyframe of an entry to the entity of its line
+     */
+    private void apply(HologramDisplay display, Hologram.Line line, Entry entry) {
+        TextDisplay entity = display.getDisplay(entry.lineIndex);
+        if (entity == null || !entity.isValid()) {
+            return;
+        }
+
+        if (entry.motion != null) {
+            TextDisplayManager.applyKeyframe(entity, line, entry.motion.getKeyframes().get(entry.frameIndex),
+                    entry.pendingDelayTicks);
+        } else {
+            applyFrame(entity, line, entry);
+        }
+    }
+
+    /**
+     * Send the current text frame to an entity, skipping values the entity already shows
+     */
+    private void applyFrame(TextDisplay entity, Hologram.Line line, Entry entry) {
+        if (entity != entry.lastEntity) {
+            entry.lastEntity = entity;
+            entry.lastText = null;
+            entry.lastOpacity = -1;
+        }
+
+        Hologram.Frame frame = entry.animation.getFrames().get(entry.frameIndex);
+        String text = frame.getRenderedText(line);
+        if (!text.equals(entry.lastText)) {
+            entity.setText(text);
+            entry.lastText = text;
+        }
+
+        int opacity = frame.getTextOpacity() != null ? frame.getTextOpacity() : line.getDisplaySettings().getTextOpacity();
+        if (opacity != entry.lastOpacity) {
+            entity.setTextOpacity((byte) opacity);
+            entry.lastOpacity = opacity;
+        }
+    }
+}
@@ -1,14 +1,18 @@
 package org.oneyz.holoFX.holograms.displays;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.bukkit.Location;
 import org.bukkit.entity.TextDisplay;
+import org.oneyz.holoFX.holograms.properties.HologramProperty;
+import org.oneyz.holoFX.loader.HologramDiff;
 import org.oneyz.holoFX.models.Hologram;
 import org.oneyz.holoFX.utils.HologramPDCManager;
 import org.oneyz.holoFX.utils.Logger;
 
 import java.util.*;
 import java.util.UUID;
+import java.util.function.IntUnaryOperator;
 
 /**
  * Manages a complete hologram consisting of multiple TextDisplay entities
@@ -17,28 +21,51 @@ import java.util.UUID;
 public class HologramDisplay {
 
     private final String hologramName;
-    private final Hologram hologramConfig;
-    private final Map<Integer, TextDisplay> displayLines; // Line index -> TextDisplay entity
+    private Hologram hologramConfig;
+    @Getter(AccessLevel.NONE)
+    private TextDisplay[] slotEntities; // Slot (first line index) -> TextDisplay entity, null if not spawned
     private final UUID hologramUuid; // Unique identifier for this hologram instance
     private Location baseLocation;
 
     private boolean isActive;
     private HologramPDCManager pdcManager;
+    private final boolean persistentEntities;
+
+    /**
+     * In rig mode all lines ride an invisible root entity and their offsets are
+     * expressed as transformation translation, so the lines share one position and stay aligned
+     */
+    private final boolean rigMode;
+    private TextDisplay rootDisplay;
+
+    /**
+     * Which lines are rendered by which entity; merged lines share the entity of their slot
+     */
+    private final boolean mergeLines;
+    private LineRenderPlan renderPlan;
 
     /**
      * Create a new HologramDisplay
      *
      * @param hologramConfig The hologram configuration
      * @param pdcManager The PDC manager for marking entities
+     * @param persistentEntities Whether spawned entities are saved into chunk data
+     * @param rigMode Whether lines are mounted on a single root entity
+     * @param mergeLines Whether consecutive same-styled lines share one entity
      */
-    public HologramDisplay(Hologram hologramConfig, HologramPDCManager pdcManager) {
+    public HologramDisplay(Hologram hologramConfig, HologramPDCManager pdcManager, boolean persistentEntities,
+                           boolean rigMode, boolean mergeLines) {
         this.hologramName = hologramConfig.getName();
         this.hologramConfig = hologramConfig;
         this.baseLocation = hologramConfig.getLocation().toBukkitLocation();
-        this.displayLines = new HashMap<>();
+        this.slotEntities = new TextDisplay[hologramConfig.getLines().size()];
         this.isActive = false;
         this.hologramUuid = UUID.randomUUID();
         this.pdcManager = pdcManager;
+        this.persistentEntities = persistentEntities;
+        this.rigMode = rigMode;
+        this.mergeLines = mergeLines;
+        this.renderPlan = LineRenderPlan.compile(hologramConfig.getLines(), mergeLines);
     }
 
     /**
@@ -63,31 +90,49 @@ public class HologramDisplay {
         }
 
         try {
-            List<Hologram.Line> lines = hologramConfig.getLines();
+            renderPlan = LineRenderPlan.compile(hologramConfig.getLines(), mergeLines);
+            slotEntities = Arrays.copyOf(slotEntities, renderPlan.getLineCount());
+            Map<Integer, TextDisplay> survivors = new HashMap<>(collectSurvivingDisplays());
+            int reattached = 0;
+
+            TextDisplay survivingRoot = survivors.remove(HologramPDCManager.ROOT_LINE_INDEX);
+            if (survivingRoot != null && !attachRoot(survivingRoot)) {
+                removeDisplay(survivingRoot);
+            }
+
+            for (int slot : renderPlan.getSlots()) {
+                TextDisplay survivor = survivors.remove(slot);
+                if (survivor != null && attachLine(slot, survivor)) {
+                    reattached++;
+                    continue;
+                }
 
-            for (int i = 0; i < lines.size(); i++) {
-                Hologram.Line line = lines.get(i);
-                TextDisplay display = TextDisplayManager.createTextDisplay(baseLocation, line);
+                TextDisplay display = spawnLineEntity(slot);
 
                 if (display == null) {
-                    Logger.warning("Failed to create TextDisplay for line " + (i + 1) +
+                    Logger.warning("Failed to create TextDisplay for line " + (slot + 1) +
                             " in hologram: " + hologramName);
                     continue;
                 }
-                if (pdcManager != null) {
-                    pdcManager.markAsHologram(display, hologramName, i, hologramUuid);
-                }
 
-                displayLines.put(i, display);
+                setSlotEntity(slot, display);
+            }
+
+            // Survivors tagged with a line that is now merged into another slot
+            for (TextDisplay survivor : survivors.values()) {
+                removeDisplay(survivor);
             }
 
-            if (displayLines.isEmpty()) {
+            int spawned = getActiveLineCount();
+            if (spawned == 0) {
                 Logger.severe("No TextDisplay entities were created for hologram: " + hologramName);
                 return false;
             }
 
             this.isActive = true;
-            Logger.info("Spawned hologram '" + hologramName + "' with " + displayLines.size() + " line(s)");
+            Logger.info("Spawned hologram '" + hologramName + "' with " + hologramConfig.getLines().size()
+                    + " line(s) in " + spawned + " entit" + (spawned == 1 ? "y" : "ies")
+                    + (reattached > 0 ? " (" + reattached + " reattached)" : ""));
             return true;
 
         } catch (Exception e) {
@@ -97,18 +142,282 @@ public class HologramDisplay {
         }
     }
 
+    /**
+     * Attach an existing display entity (e.g. one that survived a restart) to a line slot.
+     * Only properties that drifted from the line configuration are re-applied.
+     *
+     * @param lineIndex The index of the line (0-based), must be the first line of a slot
+     * @param display The existing TextDisplay entity
+     * @return false if the index is not a slot or the slot already holds another live entity
+     */
+    public boolean attachLine(int lineIndex, TextDisplay display) {
+        if (!renderPlan.isSlot(lineIndex) || display == null || !display.isValid()) {
+            return false;
+        }
+
+        TextDisplay current = getSlotEntity(lineIndex);
+        if (current != null && !current.getUniqueId().equals(display.getUniqueId())) {
+            if (current.isValid()) {
+                return false;
+            }
+            removeDisplay(current);
+        }
+
+        try {
+            if (rigMode) {
+                TextDisplay root = ensureRoot();
+                if (root != null && !root.equals(display.getVehicle())) {
+                    root.addPassenger(display);
+                }
+            } else if (display.isInsideVehicle()) {
+                display.leaveVehicle();
+            }
+
+            int reapplied = TextDisplayManager.reapplyDriftedProperties(
+                    display, baseLocation, getRenderLine(lineIndex), persistentEntities);
+            if (pdcManager != null) {
+                pdcManager.markAsHologram(display, hologramName, lineIndex, hologramUuid);
+            }
+            setSlotEntity(lineIndex, display);
+
+            if (reapplied > 0) {
+                Logger.fine("Reattached line " + (lineIndex + 1) + " of hologram '" + hologramName
+                        + "', re-applied " + reapplied + " drifted propert" + (reapplied == 1 ? "y" : "ies"));
+            }
+            return true;
+        } catch (Exception e) {
+            Logger.severe("Error reattaching line " + lineIndex + " in hologram: " + hologramName, e);
+            return false;
+        }
+    }
+
+    /**
+     * Attach an existing rig root entity (e.g. one that survived a restart) to this hologram
+     *
+     * @param root The existing root entity
+     * @return false if rig mode is off or this hologram already has another live root
+     */
+    public boolean attachRoot(TextDisplay root) {
+        if (!rigMode || root == null || !root.isValid()) {
+            return false;
+        }
+
+        if (rootDisplay != null && !rootDisplay.getUniqueId().equals(root.getUniqueId())) {
+            if (rootDisplay.isValid()) {
+                return false;
+            }
+            removeDisplay(rootDisplay);
+        }
+
+        if (root.isPersistent() != persistentEntities) {
+            root.setPersistent(persistentEntities);
+        }
+        if (!root.getWorld().equals(baseLocation.getWorld()) || root.getLocation().distanceSquared(baseLocation) > 1.0E-4) {
+            TextDisplayManager.teleportRig(root, baseLocation);
+        }
+        if (pdcManager != null) {
+            pdcManager.markAsHologram(root, hologramName, HologramPDCManager.ROOT_LINE_INDEX, hologramUuid);
+        }
+        this.rootDisplay = root;
+        mountLines();
+        return true;
+    }
+
+    /**
+     * Get the live rig root, spawning a new one (and remounting the lines) if it is missing
+     *
+     * @return The root entity, or null if rig mode is off or it could not be spawned
+     */
+    public TextDisplay ensureRoot() {
+        if (!rigMode) {
+            return null;
+        }
+        if (rootDisplay != null && rootDisplay.isValid()) {
+            return rootDisplay;
+        }
+
+        if (rootDisplay != null) {
+            removeDisplay(rootDisplay);
+        }
+        rootDisplay = TextDisplayManager.createRigRoot(baseLocation, persistentEntities);
+        if (rootDisplay == null) {
+            return null;
+        }
+
+        if (pdcManager != null) {
+            pdcManager.markAsHologram(rootDisplay, hologramName, HologramPDCManager.ROOT_LINE_INDEX, hologramUuid);
+        }
+        mountLines();
+        return rootDisplay;
+    }
+
+    /**
+     * Mount every live line that is not riding the root yet
+     */
+    private void mountLines() {
+        for (int slot = 0; slot < slotEntities.length; slot++) {
+            TextDisplay display = slotEntities[slot];
+            if (display != null && display.isValid() && !rootDisplay.equals(display.getVehicle())) {
+                rootDisplay.addPassenger(display);
+                TextDisplayManager.applyLineTransformation(display, getRenderLine(slot));
+            }
+        }
+    }
+
+    /**
+     * Spawn and tag the entity of a slot, mounted on the rig root in rig mode
+     */
+    private TextDisplay spawnLineEntity(int slot) {
+        Hologram.Line line = getRenderLine(slot);
+        TextDisplay display;
+        if (rigMode) {
+            TextDisplay root = ensureRoot();
+            display = root != null ? TextDisplayManager.createRiggedTextDisplay(root, line, persistentEntities) : null;
+        } else {
+            display = TextDisplayManager.createTextDisplay(baseLocation, line, persistentEntities);
+        }
+
+        if (display != null && pdcManager != null) {
+            pdcManager.markAsHologram(display, hologramName, slot, hologramUuid);
+        }
+        return display;
+    }
+
+    /**
+     * Get the line rendered by the entity of a slot, with the text of all lines merged into it
+     */
+    public Hologram.Line getRenderLine(int slot) {
+        return renderPlan.getRenderLine(hologramConfig.getLines(), slot);
+    }
+
+    /**
+     * Recompile the render plan after the model changed. Entities of slots whose line range
+     * changed are removed and respawned, so merged lines split or join as their settings change.
+     *
+     * @return Slots that were respawned, empty if the plan did not change
+     */
+    private List<Integer> replan() {
+        LineRenderPlan oldPlan = renderPlan;
+        renderPlan = LineRenderPlan.compile(hologramConfig.getLines(), mergeLines);
+        List<Integer> respawned = new ArrayList<>();
+        if (renderPlan.equals(oldPlan)) {
+            return respawned;
+        }
+
+        TextDisplay[] oldEntities = slotEntities;
+        slotEntities = new TextDisplay[renderPlan.getLineCount()];
+        for (int slot = 0; slot < oldEntities.length; slot++) {
+            TextDisplay display = oldEntities[slot];
+            if (display == null) {
+                continue;
+            }
+            if (renderPlan.isSlot(slot) && renderPlan.getSlotEnd(slot) == oldPlan.getSlotEnd(slot)) {
+                slotEntities[slot] = display;
+            } else {
+                removeDisplay(display);
+            }
+        }
+
+        if (isActive) {
+            for (int slot : renderPlan.getSlots()) {
+                if (slotEntities[slot] == null && respawnLine(slot)) {
+                    respawned.add(slot);
+                }
+            }
+        }
+        return respawned;
+    }
+
+    /**
+     * Get where the entity of a line is located: the base location in rig mode, otherwise base plus offset
+     */
+    public Location getLineEntityLocation(int lineIndex) {
+        if (rigMode) {
+            return baseLocation.clone();
+        }
+        return getRenderLine(renderPlan.getSlot(lineIndex)).getOffset().toRelativeLocation(baseLocation);
+    }
+
+    /**
+     * Set the client-side teleport interpolation of every entity of this hologram
+     *
+     * @param ticks Interpolation duration in ticks, 0 to snap instantly
+     */
+    public void setTeleportDuration(int ticks) {
+        for (TextDisplay display : slotEntities) {
+            if (display != null && display.isValid()) {
+                display.setTeleportDuration(ticks);
+            }
+        }
+        if (rootDisplay != null && rootDisplay.isValid()) {
+            rootDisplay.setTeleportDuration(ticks);
+        }
+    }
+
+    /**
+     * Number of entities owned by this hologram, including the rig root
+     */
+    public int getEntityCount() {
+        return getActiveLineCount() + (rootDisplay != null ? 1 : 0);
+    }
+
+    /**
+     * Find tagged displays of this hologram left over from a previous session in loaded chunks
+     */
+    private Map<Integer, TextDisplay> collectSurvivingDisplays() {
+        if (pdcManager == null) {
+            return Map.of();
+        }
+
+        List<Location> lineLocations = new ArrayList<>();
+        for (int slot : renderPlan.getSlots()) {
+            lineLocations.add(getLineEntityLocation(slot));
+        }
+        if (lineLocations.isEmpty()) {
+            lineLocations.add(baseLocation);
+        }
+        return pdcManager.collectSurvivingDisplays(hologramName, lineLocations, hologramConfig.getLines().size());
+    }
+
     /**
      * Despawn all TEXT_DISPLAY entities for this hologram
      */
     public void despawn() {
-        for (TextDisplay display : displayLines.values()) {
-            TextDisplayManager.removeTextDisplay(display);
+        for (TextDisplay display : slotEntities) {
+            if (display != null) {
+                removeDisplay(display);
+            }
+        }
+        if (rootDisplay != null) {
+            removeDisplay(rootDisplay);
+            rootDisplay = null;
         }
-        displayLines.clear();
+        Arrays.fill(slotEntities, null);
         this.isActive = false;
         Logger.fine("Despawned hologram: " + hologramName);
     }
 
+    /**
+     * Release all entity references without removing the entities, e.g. when the world
+     * unloads and persistent displays are saved with it to be reattached later
+     */
+    public void release() {
+        if (pdcManager != null) {
+            for (TextDisplay display : slotEntities) {
+                if (display != null) {
+                    pdcManager.untrack(display.getUniqueId());
+                }
+            }
+            if (rootDisplay != null) {
+                pdcManager.untrack(rootDisplay.getUniqueId());
+            }
+        }
+        rootDisplay = null;
+        Arrays.fill(slotEntities, null);
+        this.isActive = false;
+        Logger.fine("Released hologram: " + hologramName);
+    }
+
     /**
      * Update a specific line in the hologram
      *
@@ -122,19 +431,20 @@ public class HologramDisplay {
             return false;
         }
 
-        if (lineIndex < 0 || lineIndex >= displayLines.size()) {
+        int slot = renderPlan.getSlot(lineIndex);
+        if (slot < 0) {
             Logger.warning("Invalid line index: " + lineIndex + " for hologram: " + hologramName);
             return false;
         }
 
-        TextDisplay display = displayLines.get(lineIndex);
+        TextDisplay display = getSlotEntity(slot);
         if (display == null || !display.isValid()) {
             Logger.warning("TextDisplay entity is no longer valid for line: " + lineIndex);
             return respawnLine(lineIndex);
         }
 
         try {
-            TextDisplayManager.updateTextDisplay(display, newLine);
+            TextDisplayManager.updateTextDisplay(display, renderPlan.getSlotEnd(slot) == slot ? newLine : getRenderLine(slot));
             return true;
         } catch (Exception e) {
             Logger.severe("Error updating line " + lineIndex + " in hologram: " + hologramName, e);
@@ -143,23 +453,356 @@ public class HologramDisplay {
     }
 
     /**
-     * Respawn a single line (if it got deleted or broken)
+     * Update a single property of a specific line on the live entity, without touching the other properties
+     *
+     * @param lineIndex The index of the line (0-based)
+     * @param newLine The new line configuration (already containing the new property value)
+     * @param property The property that changed
+     * @return true if update was successful
      */
-    private boolean respawnLine(int lineIndex) {
-        if (lineIndex < 0 || lineIndex >= hologramConfig.getLines().size()) {
+    public boolean updateLine(int lineIndex, Hologram.Line newLine, HologramProperty<?> property) {
+        if (!isActive) {
+            Logger.warning("Cannot update line on inactive hologram: " + hologramName);
+            return false;
+        }
+
+        int slot = renderPlan.getSlot(lineIndex);
+        if (slot < 0) {
+            Logger.warning("Invalid line index: " + lineIndex + " for hologram: " + hologramName);
+            return false;
+        }
+
+        TextDisplay display = getSlotEntity(slot);
+        if (display == null || !display.isValid()) {
+            Logger.warning("TextDisplay entity is no longer valid for line: " + lineIndex);
+            return respawnLine(lineIndex);
+        }
+
+        try {
+            property.applyToDisplay(display, baseLocation, renderPlan.getSlotEnd(slot) == slot ? newLine : getRenderLine(slot));
+            return true;
+        } catch (Exception e) {
+            Logger.severe("Error updating " + property.getKey() + " of line " + lineIndex +
+                    " in hologram: " + hologramName, e);
+            return false;
+        }
+    }
+
+    /**
+     * Set a property on a single line in the model and apply it in place to the live entity
+     *
+     * @param lineIndex The index of the line (0-based)
+     * @param property The property to change
+     * @param value The new value
+     * @return true if the live entity was updated
+     */
+    public <T> boolean applyProperty(int lineIndex, HologramProperty<T> property, T value) {
+        List<Hologram.Line> oldLines = hologramConfig.getLines();
+        List<Hologram.Line> lines = new ArrayList<>(oldLines);
+        if (lineIndex < 0 || lineIndex >= lines.size()) {
+            Logger.warning("Invalid line index: " + lineIndex + " for hologram: " + hologramName);
+            return false;
+        }
+
+        lines.set(lineIndex, property.applyToModel(lines.get(lineIndex), value));
+        List<Integer> shifted = LineLayout.restack(oldLines, lines);
+        hologramConfig.setLines(lines);
+
+        List<Integer> respawned = replan();
+        applyPositions(shifted, respawned);
+        if (!respawned.isEmpty()) {
+            return isLineSpawned(lineIndex);
+        }
+        return updateLine(lineIndex, lines.get(lineIndex), property);
+    }
+
+    /**
+     * Set a property on every line in the model and apply it in place to the live entities
+     *
+     * @param property The property to change
+     * @param value The new value
+     * @return true if all live entities were updated
+     */
+    public <T> boolean applyProperty(HologramProperty<T> property, T value) {
+        List<Hologram.Line> oldLines = hologramConfig.getLines();
+        List<Hologram.Line> lines = new ArrayList<>(oldLines);
+        for (int i = 0; i < lines.size(); i++) {
+            lines.set(i, property.applyToModel(lines.get(i), value));
+        }
+        List<Integer> shifted = LineLayout.restack(oldLines, lines);
+        hologramConfig.setLines(lines);
+        applyPositions(shifted, replan());
+
+        boolean success = true;
+        for (int slot : renderPlan.getSlots()) {
+            success &= updateLine(slot, lines.get(slot), property);
+        }
+        return success;
+    }
+
+    /**
+     * Insert a line in place. The lines below move down by its height; their entities are kept and
+     * only moved, so only the new line is spawned.
+     *
+     * @param lineIndex Index the line is inserted at (0-based)
+     * @param line The new line, with its offset already set
+     * @return Slots that were spawned
+     */
+    public List<Integer> insertLine(int lineIndex, Hologram.Line line) {
+        List<Hologram.Line> lines = new ArrayList<>(hologramConfig.getLines());
+        List<Integer> shifted = new ArrayList<>();
+        for (int i : LineLayout.shift(lines, lineIndex, -LineLayout.getLineHeight(line))) {
+            shifted.add(i + 1);
+        }
+        lines.add(lineIndex, line);
+        return relayout(lines, i -> i < lineIndex ? i : i + 1, shifted);
+    }
+
+    /**
+     * Remove a line in place. The lines below move up by its height, closing the gap; their entities
+     * are kept and only moved.
+     *
+     * @param lineIndex Index of the line to remove (0-based)
+     * @return Slots that were spawned, e.g. when a merged slot had to be split
+     */
+    public List<Integer> removeLine(int lineIndex) {
+        List<Hologram.Line> lines = new ArrayList<>(hologramConfig.getLines());
+        Hologram.Line removed = lines.remove(lineIndex);
+        List<Integer> shifted = LineLayout.shift(lines, lineIndex, LineLayout.getLineHeight(removed));
+        return relayout(lines, i -> i < lineIndex ? i : i == lineIndex ? -1 : i - 1, shifted);
+    }
+
+    /**
+     * Switch to lines that were inserted or removed. Entities whose lines are still rendered by one slot
+     * are kept under their new index (and retagged), the others are removed, missing slots are spawned
+     * and the moved lines are repositioned in one pass.
+     *
+     * @param lines The new lines
+     * @param newIndexOf Maps an old line index to its new index, -1 for a removed line
+     * @param shifted New indices of the lines whose offset changed
+     * @return Slots that were spawned
+     */
+    private List<Integer> relayout(List<Hologram.Line> lines, IntUnaryOperator newIndexOf,
+                                   List<Integer> shifted) {
+        LineRenderPlan oldPlan = renderPlan;
+        TextDisplay[] oldEntities = slotEntities;
+        hologramConfig.setLines(lines);
+        renderPlan = LineRenderPlan.compile(lines, mergeLines);
+        slotEntities = new TextDisplay[renderPlan.getLineCount()];
+
+        for (int slot = 0; slot < oldEntities.length; slot++) {
+            TextDisplay display = oldEntities[slot];
+            if (display == null) {
+                continue;
+            }
+
+            int oldEnd = oldPlan.getSlotEnd(slot);
+            int newSlot = newIndexOf.applyAsInt(slot);
+            int newEnd = oldEnd >= 0 ? newIndexOf.applyAsInt(oldEnd) : -1;
+            boolean sameLines = newSlot >= 0 && newEnd - newSlot == oldEnd - slot
+                    && renderPlan.isSlot(newSlot) && renderPlan.getSlotEnd(newSlot) == newEnd;
+            if (!sameLines || !display.isValid()) {
+                removeDisplay(display);
+                continue;
+            }
+
+            if (newSlot != slot && pdcManager != null) {
+                pdcManager.markAsHologram(display, hologramName, newSlot, hologramUuid);
+            }
+            slotEntities[newSlot] = display;
+        }
+
+        List<Integer> spawned = new ArrayList<>();
+        if (isActive) {
+            for (int slot : renderPlan.getSlots()) {
+                if (slotEntities[slot] == null && isLineChunkLoaded(slot)) {
+                    TextDisplay display = spawnLineEntity(slot);
+                    if (display != null) {
+                        setSlotEntity(slot, display);
+                        spawned.add(slot);
+                    }
+                }
+            }
+        }
+        applyPositions(shifted, spawned);
+        return spawned;
+    }
+
+    /**
+     * Move the entities of lines whose offset changed in one pass, skipping slots that were just respawned
+     *
+     * @param lineIndices Lines whose offset changed
+     * @param respawned Slots that were respawned and are already in place
+     */
+    private void applyPositions(List<Integer> lineIndices, List<Integer> respawned) {
+        Set<Integer> slots = new LinkedHashSet<>();
+        for (int lineIndex : lineIndices) {
+            slots.add(renderPlan.getSlot(lineIndex));
+        }
+        slots.removeAll(respawned);
+
+        for (int slot : slots) {
+            TextDisplay display = getSlotEntity(slot);
+            if (display != null && display.isValid()) {
+                TextDisplayManager.applyPosition(display, baseLocation, getRenderLine(slot));
+            }
+        }
+    }
+
+    /**
+     * Switch to a reloaded model that has the same content as the current one
+     */
+    public void adoptModel(Hologram newModel) {
+        this.hologramConfig = newModel;
+        this.renderPlan = LineRenderPlan.compile(newModel.getLines(), mergeLines);
+    }
+
+    /**
+     * Switch to a reloaded model and apply only the changed lines in place.
+     * Lines whose entity is currently not loaded are skipped; they are spawned from
+     * the new model once their chunk loads.
+     *
+     * @param change The changes between the current and the reloaded model (same world)
+     * @return Indices of the lines that were updated or spawned
+     */
+    public List<Integer> applyChange(HologramDiff.Change change) {
+        List<Integer> touched = new ArrayList<>();
+        this.hologramConfig = change.getNewModel();
+
+        if (change.isMoved()) {
+            this.baseLocation = hologramConfig.getLocation().toBukkitLocation();
+            if (rigMode && rootDisplay != null && rootDisplay.isValid()) {
+                // Rigged lines sit on the root, so moving the root moves all of them
+                TextDisplayManager.teleportRig(rootDisplay, baseLocation);
+            }
+        }
+
+        // Removed and added lines change the plan, their slots are dropped or respawned here
+        List<Integer> respawned = replan();
+        touched.addAll(respawned);
+
+        for (int slot : renderPlan.getSlots()) {
+            TextDisplay display = getSlotEntity(slot);
+            if (respawned.contains(slot) || display == null || !display.isValid()) {
+                continue;
+            }
+
+            boolean textChanged = false;
+            boolean settingsChanged = false;
+            for (int i = slot; i <= renderPlan.getSlotEnd(slot); i++) {
+                textChanged |= change.getTextChanged().contains(i);
+                settingsChanged |= change.getSettingsChanged().contains(i);
+            }
+
+            Hologram.Line line = getRenderLine(slot);
+            try {
+                if (textChanged) {
+                    TextDisplayManager.applyText(display, line);
+                }
+                if (settingsChanged) {
+                    TextDisplayManager.applyDisplaySettings(display, line.getDisplaySettings());
+                }
+                if ((change.isMoved() && !display.isInsideVehicle()) || settingsChanged) {
+                    TextDisplayManager.applyPosition(display, baseLocation, line);
+                }
+                if (textChanged || settingsChanged) {
+                    touched.add(slot);
+                }
+            } catch (Exception e) {
+                Logger.severe("Error applying reloaded line " + slot + " in hologram: " + hologramName, e);
+            }
+        }
+
+        return touched;
+    }
+
+    /**
+     * Replace the rendered lines with another set, e.g. another page. The live entities are reused
+     * in order and fully reconfigured for their new line; entities are only
+     * spawned when the new set needs more of them, and left over ones are removed. The entity count
+     * therefore stays bounded by the largest set instead of the total content.
+     *
+     * @param lines The lines to show
+     * @return Slots whose entity was reused or spawned
+     */
+    public List<Integer> showLines(List<Hologram.Line> lines) {
+        List<TextDisplay> pool = new ArrayList<>();
+        for (TextDisplay display : slotEntities) {
+            if (display != null && display.isValid()) {
+                pool.add(display);
+            } else if (display != null) {
+                removeDisplay(display);
+            }
+        }
+
+        hologramConfig.setLines(lines);
+        renderPlan = LineRenderPlan.compile(lines, mergeLines);
+        slotEntities = new TextDisplay[renderPlan.getLineCount()];
+
+        List<Integer> touched = new ArrayList<>();
+        Iterator<TextDisplay> reusable = pool.iterator();
+        for (int slot : renderPlan.getSlots()) {
+            if (reusable.hasNext()) {
+                TextDisplay display = reusable.next();
+                reusable.remove();
+                try {
+                    TextDisplayManager.reuseTextDisplay(display, baseLocation, getRenderLine(slot), persistentEntities);
+                    if (pdcManager != null) {
+                        pdcManager.markAsHologram(display, hologramName, slot, hologramUuid);
+                    }
+                    setSlotEntity(slot, display);
+                    touched.add(slot);
+                } catch (Exception e) {
+                    Logger.severe("Error reusing entity for line " + (slot + 1) + " in hologram: " + hologramName, e);
+                    removeDisplay(display);
+                }
+                continue;
+            }
+
+            if (isActive && isLineChunkLoaded(slot)) {
+                TextDisplay display = spawnLineEntity(slot);
+                if (display != null) {
+                    setSlotEntity(slot, display);
+                    touched.add(slot);
+                }
+            }
+        }
+
+        for (TextDisplay leftover : pool) {
+            removeDisplay(leftover);
+        }
+        return touched;
+    }
+
+    /**
+     * Remove a line entity, dropping it from the PDC registry as well
+     */
+    private void removeDisplay(TextDisplay display) {
+        if (pdcManager != null) {
+            pdcManager.removeHologramDisplay(display);
+        } else {
+            TextDisplayManager.removeTextDisplay(display);
+        }
+    }
+
+    /**
+     * Respawn the entity rendering a line (if it got deleted or broken)
+     */
+    public boolean respawnLine(int lineIndex) {
+        int slot = renderPlan.getSlot(lineIndex);
+        if (slot < 0) {
             return false;
         }
 
         try {
-            TextDisplay oldDisplay = displayLines.get(lineIndex);
+            TextDisplay oldDisplay = getSlotEntity(slot);
             if (oldDisplay != null) {
-                TextDisplayManager.removeTextDisplay(oldDisplay);
+                removeDisplay(oldDisplay);
             }
-            Hologram.Line line = hologramConfig.getLines().get(lineIndex);
-            TextDisplay newDisplay = TextDisplayManager.createTextDisplay(baseLocation, line);
+            TextDisplay newDisplay = spawnLineEntity(slot);
 
             if (newDisplay != null) {
-                displayLines.put(lineIndex, newDisplay);
+                setSlotEntity(slot, newDisplay);
                 Logger.info("Respawned line " + (lineIndex + 1) + " in hologram: " + hologramName);
                 return true;
             }
@@ -171,6 +814,43 @@ public class HologramDisplay {
         }
     }
 
+    /**
+     * Respawn every line whose entity is missing or no longer valid, e.g. after its chunk was
+     * unloaded and non-persistent entities were discarded. Lines are always rebuilt from the model.
+     *
+     * @return Indices of the lines that were respawned
+     */
+    public List<Integer> respawnInvalidLines() {
+        List<Integer> respawned = new ArrayList<>();
+        if (!isActive) {
+            return respawned;
+        }
+
+        for (int slot : renderPlan.getSlots()) {
+            if (!isLineSpawned(slot) && respawnLine(slot)) {
+                respawned.add(slot);
+            }
+        }
+        return respawned;
+    }
+
+    /**
+     * Check if the chunk of a line and its entities are loaded, so a missing entity
+     * really means it was removed and not just unloaded with its chunk
+     */
+    public boolean isLineChunkLoaded(int lineIndex) {
+        if (lineIndex < 0 || lineIndex >= hologramConfig.getLines().size()
+                || baseLocation == null || baseLocation.getWorld() == null) {
+            return false;
+        }
+
+        Location lineLocation = getLineEntityLocation(lineIndex);
+        int chunkX = lineLocation.getBlockX() >> 4;
+        int chunkZ = lineLocation.getBlockZ() >> 4;
+        return baseLocation.getWorld().isChunkLoaded(chunkX, chunkZ)
+                && baseLocation.getWorld().getChunkAt(chunkX, chunkZ).isEntitiesLoaded();
+    }
+
     /**
      * Move the hologram to a new location
      *
@@ -184,10 +864,16 @@ public class HologramDisplay {
         }
 
         try {
-            for (int i = 0; i < hologramConfig.getLines().size(); i++) {
-                TextDisplay display = displayLines.get(i);
+            if (rigMode && rootDisplay != null && rootDisplay.isValid()) {
+                TextDisplayManager.teleportRig(rootDisplay, newLocation);
+                this.baseLocation = newLocation.clone();
+                return true;
+            }
+
+            for (int slot : renderPlan.getSlots()) {
+                TextDisplay display = getSlotEntity(slot);
                 if (display != null && display.isValid()) {
-                    Hologram.Line line = hologramConfig.getLines().get(i);
+                    Hologram.Line line = getRenderLine(slot);
                     Location newDisplayLocation = newLocation.clone().add(
                             line.getOffset().getX(),
                             line.getOffset().getY(),
@@ -210,22 +896,42 @@ public class HologramDisplay {
      * Get the count of active TextDisplay entities
      */
     public int getActiveLineCount() {
-        return displayLines.size();
+        int count = 0;
+        for (TextDisplay display : slotEntities) {
+            if (display != null) {
+                count++;
+            }
+        }
+        return count;
     }
 
     /**
      * Check if a specific line is spawned
      */
     public boolean isLineSpawned(int lineIndex) {
-        TextDisplay display = displayLines.get(lineIndex);
+        TextDisplay display = getDisplay(lineIndex);
         return display != null && display.isValid();
     }
 
     /**
-     * Get a specific TextDisplay entity
+     * Get the TextDisplay entity rendering a line, shared by all lines merged into the same slot
      */
     public TextDisplay getDisplay(int lineIndex) {
-        return displayLines.get(lineIndex);
+        return getSlotEntity(renderPlan.getSlot(lineIndex));
+    }
+
+    private TextDisplay getSlotEntity(int slot) {
+        return slot >= 0 && slot < slotEntities.length ? slotEntities[slot] : null;
+    }
+
+    /**
+     * Store the entity of a slot, growing the slot array if the model gained lines
+     */
+    private void setSlotEntity(int slot, TextDisplay display) {
+        if (slot >= slotEntities.length) {
+            slotEntities = Arrays.copyOf(slotEntities, Math.max(slot + 1, hologramConfig.getLines().size()));
+        }
+        slotEntities[slot] = display;
     }
 
 }
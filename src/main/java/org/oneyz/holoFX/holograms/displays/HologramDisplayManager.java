@@ -2,8 +2,18 @@ package org.oneyz.holoFX.holograms.displays;
 
 import lombok.Getter;
 import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.TextDisplay;
 import org.oneyz.holoFX.HoloFX;
+import org.oneyz.holoFX.holograms.animations.AnimationScheduler;
+import org.oneyz.holoFX.holograms.leaderboards.LeaderboardManager;
+import org.oneyz.holoFX.holograms.pages.PageScheduler;
+import org.oneyz.holoFX.holograms.placeholders.PlaceholderRefresher;
+import org.oneyz.holoFX.holograms.properties.HologramProperty;
 import org.oneyz.holoFX.holograms.visibility.HologramVisibilityManager;
+import org.oneyz.holoFX.loader.HologramDiff;
 import org.oneyz.holoFX.models.Hologram;
 import org.oneyz.holoFX.utils.HologramEditQueueManager;
 import org.oneyz.holoFX.utils.HologramPDCManager;
@@ -23,6 +33,27 @@ public class HologramDisplayManager {
     private final HologramVisibilityManager visibilityManager;
     private final HologramPDCManager pdcManager;
     private final HologramEditQueueManager editQueueManager;
+    private final PlaceholderRefresher placeholderRefresher;
+    private final AnimationScheduler animationScheduler;
+    private final PageScheduler pageScheduler;
+    private final LeaderboardManager leaderboardManager;
+
+    /**
+     * World name -> chunk key -> names of holograms with at least one line in that chunk
+     */
+    private final Map<String, Map<Long, Set<String>>> chunkIndex;
+
+    /**
+     * Hologram name -> world and chunk keys it is registered under in the chunk index,
+     * so reindexing a hologram only touches its own chunks
+     */
+    private final Map<String, IndexedChunks> hologramChunks;
+
+    /**
+     * Holograms waiting to have their lines respawned after a chunk load
+     */
+    private final Set<String> pendingChunkRespawns;
+    private boolean chunkRespawnScheduled;
 
     public HologramDisplayManager(HoloFX plugin) {
         this.plugin = plugin;
@@ -30,6 +61,14 @@ public class HologramDisplayManager {
         this.visibilityManager = new HologramVisibilityManager(plugin);
         this.pdcManager = new HologramPDCManager(plugin);
         this.editQueueManager = new HologramEditQueueManager();
+        this.placeholderRefresher = new PlaceholderRefresher(plugin, this);
+        this.animationScheduler = new AnimationScheduler(plugin, this);
+        this.pageScheduler = new PageScheduler(plugin, this);
+        this.leaderboardManager = new LeaderboardManager(plugin, this);
+        this.chunkIndex = new HashMap<>();
+        this.hologramChunks = new HashMap<>();
+        this.pendingChunkRespawns = new LinkedHashSet<>();
+        this.chunkRespawnScheduled = false;
     }
 
     /**
@@ -47,10 +86,18 @@ public class HologramDisplayManager {
         }
 
         try {
-            HologramDisplay display = new HologramDisplay(hologramConfig, pdcManager);
+            boolean persistent = plugin.getConfigManager().isPersistentDisplays();
+            boolean rigMode = plugin.getConfigManager().isRigMode();
+            boolean mergeLines = plugin.getConfigManager().isMergeLines();
+            HologramDisplay display = new HologramDisplay(hologramConfig, pdcManager, persistent, rigMode, mergeLines);
 
             if (display.spawn()) {
                 activeHolograms.put(hologramName, display);
+                indexChunks(display);
+                placeholderRefresher.index(display);
+                animationScheduler.index(display);
+                pageScheduler.index(display);
+                leaderboardManager.index(display);
 
                 visibilityManager.updateVisibilityAfterSpawn(display, Bukkit.getOnlinePlayers());
 
@@ -85,7 +132,13 @@ public class HologramDisplayManager {
             pdcManager.removeAllDisplaysForHologram(hologramName);
 
             editQueueManager.clearQueue(hologramName);
+            placeholderRefresher.unindex(hologramName);
+            animationScheduler.unindex(hologramName);
+            pageScheduler.unindex(hologramName);
+            leaderboardManager.unindex(hologramName);
 
+            unindexChunks(hologramName);
+            pendingChunkRespawns.remove(hologramName);
             activeHolograms.remove(hologramName);
             Logger.info("Despawned hologram: " + hologramName);
             return true;
@@ -99,14 +152,599 @@ public class HologramDisplayManager {
      * Despawn all active holograms
      */
     public void despawnAllHolograms() {
-        List<String> hologramNames = new ArrayList<>(activeHolograms.keySet());
-        for (String name : hologramNames) {
-            despawnHologram(name);
+        long startTime = System.nanoTime();
+        int trackedBefore = pdcManager.getTrackedCount();
+        int hologramCount = activeHolograms.size();
+        int lineCount = 0;
+
+        for (HologramDisplay display : activeHolograms.values()) {
+            try {
+                lineCount += display.getEntityCount();
+                display.despawn();
+                editQueueManager.clearQueue(display.getHologramName());
+            } catch (Exception e) {
+                Logger.severe("Error despawning hologram: " + display.getHologramName(), e);
+            }
+        }
+        activeHolograms.clear();
+        chunkIndex.clear();
+        hologramChunks.clear();
+        pendingChunkRespawns.clear();
+        placeholderRefresher.clear();
+        animationScheduler.clear();
+        pageScheduler.clear();
+        leaderboardManager.clear();
+
+        int leftover = pdcManager.getTrackedCount();
+        if (leftover > 0 || trackedBefore != lineCount) {
+            Logger.warning("Display registry was inconsistent (" + trackedBefore + " tracked, " + lineCount
+                    + " line(s), " + leftover + " left after despawn), running a full cleanup sweep");
+            pdcManager.removeAllHologramDisplays();
+            pdcManager.sweepAllWorlds();
+        }
+
+        long elapsedMs = (System.nanoTime() - startTime) / 1_000_000;
+        Logger.info("Despawned all holograms (" + hologramCount + " hologram(s), " + lineCount
+                + " display(s)) in " + elapsedMs + "ms");
+    }
+
+    /**
+     * Release all holograms of a world that is unloading, so no TextDisplay, Location or World
+     * references are kept. Non-persistent displays are removed, persistent ones are saved with
+     * the world and reattached when it loads again.
+     *
+     * @param worldName The name of the unloading world
+     * @return Number of holograms released
+     */
+    public int releaseWorld(String worldName) {
+        boolean persistent = plugin.getConfigManager().isPersistentDisplays();
+        int released = 0;
+
+        Iterator<HologramDisplay> iterator = activeHolograms.values().iterator();
+        while (iterator.hasNext()) {
+            HologramDisplay display = iterator.next();
+            if (!worldName.equals(display.getHologramConfig().getLocation().getWorld())) {
+                continue;
+            }
+
+            try {
+                if (persistent) {
+                    display.release();
+                } else {
+                    display.despawn();
+                }
+            } catch (Exception e) {
+                Logger.severe("Error releasing hologram: " + display.getHologramName(), e);
+            }
+
+            iterator.remove();
+            editQueueManager.clearQueue(display.getHologramName());
+            placeholderRefresher.unindex(display.getHologramName());
+            animationScheduler.unindex(display.getHologramName());
+            pageScheduler.unindex(display.getHologramName());
+            leaderboardManager.unindex(display.getHologramName());
+            visibilityManager.clearHologramCache(display.getHologramName());
+            pendingChunkRespawns.remove(display.getHologramName());
+            hologramChunks.remove(display.getHologramName());
+            released++;
+        }
+
+        chunkIndex.remove(worldName);
+        return released;
+    }
+
+    /**
+     * Stop tracking all active holograms without removing their entities.
+     * Used at shutdown when displays are persistent, so they can be reattached on the next start.
+     */
+    public void detachAllHolograms() {
+        int count = activeHolograms.size();
+        activeHolograms.clear();
+        chunkIndex.clear();
+        hologramChunks.clear();
+        pendingChunkRespawns.clear();
+        placeholderRefresher.clear();
+        animationScheduler.clear();
+        pageScheduler.clear();
+        leaderboardManager.clear();
+
+        Logger.info("Detached " + count + " hologram(s), their displays are kept for the next start");
+    }
+
+    /**
+     * Apply the differences found by a reload: removed holograms are despawned, changed ones are
+     * updated in place and unchanged ones switch to their reloaded model.
+     * Holograms that need to be spawned are returned, so they can be spawned in batches.
+     *
+     * @param diff The differences between the loaded and the reloaded models
+     * @return Holograms to spawn (added, re-enabled, moved to another world, or unchanged but not active)
+     */
+    public List<Hologram> applyDiff(HologramDiff diff) {
+        List<Hologram> toSpawn = new ArrayList<>(diff.getAdded());
+
+        for (String hologramName : diff.getRemoved()) {
+            if (activeHolograms.containsKey(hologramName)) {
+                despawnHologram(hologramName);
+            }
+        }
+
+        for (Hologram model : diff.getUnchanged()) {
+            HologramDisplay display = activeHolograms.get(model.getName());
+            if (display != null) {
+                display.adoptModel(model);
+                pageScheduler.index(display);
+                leaderboardManager.index(display);
+            } else if (model.isEnabled() && model.hasValidWorld()) {
+                // Its spawn failed or its world was not loaded before; a reload gives it another chance
+                toSpawn.add(model);
+            }
+        }
+
+        for (HologramDiff.Change change : diff.getChanged().values()) {
+            Hologram model = change.getNewModel();
+            String hologramName = model.getName();
+            HologramDisplay display = activeHolograms.get(hologramName);
+
+            if (display == null) {
+                toSpawn.add(model);
+                continue;
+            }
+
+            if (!model.isEnabled() || change.isWorldChanged() || !model.hasValidWorld()) {
+                despawnHologram(hologramName);
+                toSpawn.add(model);
+                continue;
+            }
+
+            try {
+                for (int lineIndex : display.applyChange(change)) {
+                    visibilityManager.updateLineVisibility(display, lineIndex, Bukkit.getOnlinePlayers());
+                }
+                reindexChunks(hologramName);
+                placeholderRefresher.index(display);
+                animationScheduler.index(display);
+                pageScheduler.index(display);
+                leaderboardManager.index(display);
+            } catch (Exception e) {
+                Logger.severe("Error applying reload changes to hologram: " + hologramName, e);
+            }
+        }
+
+        toSpawn.removeIf(hologram -> !hologram.isEnabled() || !hologram.hasValidWorld());
+        return toSpawn;
+    }
+
+    /**
+     * Show another page of a paged hologram, reusing its live entities in place.
+     * Edits made to the page shown until now are kept in the paging, so they survive switching back.
+     *
+     * @param hologramName The name of the hologram
+     * @param page The page index (0-based)
+     * @return true if the page was switched
+     */
+    public boolean showPage(String hologramName, int page) {
+        HologramDisplay display = activeHolograms.get(hologramName);
+        if (display == null || !display.getHologramConfig().isPaged()) {
+            return false;
+        }
+
+        Hologram model = display.getHologramConfig();
+        Hologram.Paging paging = model.getPaging();
+        if (page < 0 || page >= paging.getPages().size() || page == paging.getCurrentPage()) {
+            return false;
+        }
+
+        paging.getPages().set(paging.getCurrentPage(), model.getLines());
+        paging.setCurrentPage(page);
+        try {
+            display.showLines(paging.getPages().get(page));
+            for (int slot : display.getRenderPlan().getSlots()) {
+                visibilityManager.updateLineVisibility(display, slot, Bukkit.getOnlinePlayers());
+            }
+            reindexChunks(hologramName);
+            placeholderRefresher.index(display);
+            animationScheduler.index(display);
+            leaderboardManager.index(display);
+            return true;
+        } catch (Exception e) {
+            Logger.severe("Error switching to page " + (page + 1) + " of hologram: " + hologramName, e);
+            return false;
+        }
+    }
+
+    /**
+     * Move an active hologram by teleporting its live entities and then updating its model location.
+     * Moves to another world fall back to a respawn. The model keeps its old location if the move
+     * fails. The file is not written here.
+     *
+     * @param hologramName The name of the hologram
+     * @param newLocation The new location
+     * @return true if the hologram was moved
+     */
+    public boolean moveHologram(String hologramName, Hologram.Location newLocation) {
+        HologramDisplay display = activeHolograms.get(hologramName);
+
+        if (display == null) {
+            Logger.warning("Hologram '" + hologramName + "' is not active!");
+            return false;
+        }
+
+        Hologram hologramConfig = display.getHologramConfig();
+        boolean sameWorld = newLocation.getWorld().equals(hologramConfig.getLocation().getWorld());
+
+        Hologram.Location location = hologramConfig.getLocation();
+
+        if (!sameWorld) {
+            Hologram.Location oldLocation = Hologram.Location.builder().build();
+            copyLocation(location, oldLocation);
+            copyLocation(newLocation, location);
+
+            despawnHologram(hologramName);
+            if (spawnHologram(hologramConfig)) {
+                return true;
+            }
+
+            copyLocation(oldLocation, location);
+            spawnHologram(hologramConfig);
+            return false;
+        }
+
+        if (!display.moveTo(newLocation.toBukkitLocation())) {
+            return false;
+        }
+        copyLocation(newLocation, location);
+        reindexChunks(hologramName);
+        return true;
+    }
+
+    /**
+     * Copy every field of a location model into another
+     */
+    private static void copyLocation(Hologram.Location source, Hologram.Location target) {
+        target.setWorld(source.getWorld());
+        target.setX(source.getX());
+        target.setY(source.getY());
+        target.setZ(source.getZ());
+        target.setYaw(source.getYaw());
+    }
+
+    /**
+     * Insert a line into an active hologram in place. Only the new line is spawned; the lines below
+     * keep their entities and are moved in one pass. The file is not written here.
+     *
+     * @param hologramName The name of the hologram
+     * @param lineIndex Index the line is inserted at (0-based)
+     * @param line The new line, with its offset already set
+     * @return true if the new line is shown, or its chunk is not loaded and it spawns with the chunk
+     */
+    public boolean insertLine(String hologramName, int lineIndex, Hologram.Line line) {
+        HologramDisplay display = activeHolograms.get(hologramName);
+
+        if (display == null) {
+            Logger.warning("Hologram '" + hologramName + "' is not active!");
+            return false;
+        }
+
+        display.insertLine(lineIndex, line);
+        refreshLineIndices(display);
+        return display.isLineSpawned(lineIndex) || !display.isLineChunkLoaded(lineIndex);
+    }
+
+    /**
+     * Remove a line from an active hologram in place. The lines below keep their entities and
+     * move up in one pass, closing the gap. The file is not written here.
+     *
+     * @param hologramName The name of the hologram
+     * @param lineIndex Index of the line to remove (0-based)
+     * @return true if the line was removed
+     */
+    public boolean removeLine(String hologramName, int lineIndex) {
+        HologramDisplay display = activeHolograms.get(hologramName);
+
+        if (display == null) {
+            Logger.warning("Hologram '" + hologramName + "' is not active!");
+            return false;
+        }
+        if (lineIndex < 0 || lineIndex >= display.getHologramConfig().getLines().size()) {
+            return false;
+        }
+
+        display.removeLine(lineIndex);
+        refreshLineIndices(display);
+        return true;
+    }
+
+    /**
+     * Rebuild everything keyed by line index after lines were inserted or removed
+     */
+    private void refreshLineIndices(HologramDisplay display) {
+        for (int slot : display.getRenderPlan().getSlots()) {
+            visibilityManager.updateLineVisibility(display, slot, Bukkit.getOnlinePlayers());
+        }
+        reindexChunks(display.getHologramName());
+        placeholderRefresher.index(display);
+        animationScheduler.index(display);
+        leaderboardManager.index(display);
+    }
+
+    /**
+     * Change a property of a single line in place, without respawning the hologram
+     *
+     * @param hologramName The name of the hologram
+     * @param lineIndex The index of the line (0-based)
+     * @param property The property to change
+     * @param value The new value
+     * @return true if the property was applied to the live entity
+     */
+    public <T> boolean updateProperty(String hologramName, int lineIndex, HologramProperty<T> property, T value) {
+        HologramDisplay display = activeHolograms.get(hologramName);
+
+        if (display == null) {
+            Logger.warning("Hologram '" + hologramName + "' is not active!");
+            return false;
+        }
+
+        if (!display.applyProperty(lineIndex, property, value)) {
+            return false;
+        }
+        reindexChunks(hologramName);
+
+        if (property.isAffectsVisibility()) {
+            visibilityManager.updateLineVisibility(display, lineIndex, Bukkit.getOnlinePlayers());
+        }
+        return true;
+    }
+
+    /**
+     * Change a property of every line in place, without respawning the hologram
+     *
+     * @param hologramName The name of the hologram
+     * @param property The property to change
+     * @param value The new value
+     * @return true if the property was applied to all live entities
+     */
+    public <T> boolean updateProperty(String hologramName, HologramProperty<T> property, T value) {
+        HologramDisplay display = activeHolograms.get(hologramName);
+
+        if (display == null) {
+            Logger.warning("Hologram '" + hologramName + "' is not active!");
+            return false;
+        }
+
+        if (!display.applyProperty(property, value)) {
+            return false;
+        }
+        reindexChunks(hologramName);
+
+        if (property.isAffectsVisibility()) {
+            for (int i = 0; i < display.getHologramConfig().getLines().size(); i++) {
+                visibilityManager.updateLineVisibility(display, i, Bukkit.getOnlinePlayers());
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Handle a chunk load. Non-persistent displays are discarded when their chunk unloads,
+     * so every hologram with a line in this chunk is queued and its missing lines are respawned
+     * from the model on the next tick, once the chunk is fully available.
+     *
+     * @param world The world of the chunk
+     * @param chunkX The chunk X coordinate
+     * @param chunkZ The chunk Z coordinate
+     */
+    public void handleChunkLoad(World world, int chunkX, int chunkZ) {
+        if (plugin.getConfigManager().isPersistentDisplays()) {
+            return;
+        }
+
+        Map<Long, Set<String>> worldChunks = chunkIndex.get(world.getName());
+        if (worldChunks == null) {
+            return;
+        }
+
+        Set<String> hologramNames = worldChunks.get(chunkKey(chunkX, chunkZ));
+        if (hologramNames == null || hologramNames.isEmpty()) {
+            return;
+        }
+
+        pendingChunkRespawns.addAll(hologramNames);
+
+        if (!chunkRespawnScheduled) {
+            chunkRespawnScheduled = true;
+            Bukkit.getScheduler().runTask(plugin, this::processPendingChunkRespawns);
+        }
+    }
+
+    /**
+     * Respawn missing lines of all holograms queued by chunk loads
+     */
+    private void processPendingChunkRespawns() {
+        chunkRespawnScheduled = false;
+
+        List<String> hologramNames = new ArrayList<>(pendingChunkRespawns);
+        pendingChunkRespawns.clear();
+
+        for (String hologramName : hologramNames) {
+            HologramDisplay display = activeHolograms.get(hologramName);
+            if (display == null) {
+                continue;
+            }
+
+            try {
+                for (int lineIndex : display.respawnInvalidLines()) {
+                    visibilityManager.updateLineVisibility(display, lineIndex, Bukkit.getOnlinePlayers());
+                }
+            } catch (Exception e) {
+                Logger.severe("Error respawning hologram after chunk load: " + hologramName, e);
+            }
+        }
+    }
+
+    /**
+     * Outcome of reconciling a PDC-tagged display entity with the active holograms
+     */
+    public enum TaggedDisplayState {
+        /** The entity is the live display of its line */
+        LIVE,
+        /** The entity was attached to its (empty or stale) line slot */
+        REATTACHED,
+        /** The line slot already holds another live entity, the entity was removed */
+        DUPLICATE,
+        /** The entity belongs to no active hologram line and was removed */
+        ORPHAN,
+        /** The entity belongs to no active hologram line and was left in place */
+        UNCLAIMED
+    }
+
+    /**
+     * Handle entities being loaded into a chunk. PDC-tagged displays (left over from a previous
+     * session, or reloaded persistent displays) are matched back to their hologram line slot and reused.
+     * Tagged displays whose slot already holds another live entity are duplicates and are removed.
+     *
+     * @param entities The entities that were loaded
+     */
+    public void handleEntitiesLoad(Collection<Entity> entities) {
+        for (Entity entity : entities) {
+            if (pdcManager.isHologramDisplay(entity)) {
+                reconcileTaggedDisplay((TextDisplay) entity, false);
+            }
+        }
+    }
+
+    /**
+     * Match a PDC-tagged display entity against the active holograms
+     *
+     * @param textDisplay The tagged display entity
+     * @param removeUnclaimed Whether to remove the entity if its hologram is not active.
+     *                        Unclaimed entities may still be reattached when their hologram spawns.
+     * @return What was done with the entity
+     */
+    public TaggedDisplayState reconcileTaggedDisplay(TextDisplay textDisplay, boolean removeUnclaimed) {
+        String hologramName = pdcManager.getHologramName(textDisplay);
+        Integer lineIndex = pdcManager.getLineIndex(textDisplay);
+        HologramDisplay display = hologramName != null ? activeHolograms.get(hologramName) : null;
+
+        if (display != null && lineIndex != null && lineIndex == HologramPDCManager.ROOT_LINE_INDEX) {
+            TextDisplay root = display.getRootDisplay();
+            if (root != null && root.isValid() && root.getUniqueId().equals(textDisplay.getUniqueId())) {
+                return TaggedDisplayState.LIVE;
+            }
+            if (display.attachRoot(textDisplay)) {
+                return TaggedDisplayState.REATTACHED;
+            }
+            pdcManager.removeHologramDisplay(textDisplay);
+            return TaggedDisplayState.DUPLICATE;
+        }
+
+        if (display == null || lineIndex == null
+                || lineIndex < 0 || lineIndex >= display.getHologramConfig().getLines().size()) {
+            if (display == null && !removeUnclaimed) {
+                return TaggedDisplayState.UNCLAIMED;
+            }
+            pdcManager.removeHologramDisplay(textDisplay);
+            return TaggedDisplayState.ORPHAN;
+        }
+
+        TextDisplay current = display.getDisplay(lineIndex);
+        if (current != null && current.isValid() && current.getUniqueId().equals(textDisplay.getUniqueId())) {
+            return TaggedDisplayState.LIVE;
+        }
+
+        if (display.attachLine(lineIndex, textDisplay)) {
+            visibilityManager.updateLineVisibility(display, lineIndex, Bukkit.getOnlinePlayers());
+            return TaggedDisplayState.REATTACHED;
+        }
+
+        pdcManager.removeHologramDisplay(textDisplay);
+        return TaggedDisplayState.DUPLICATE;
+    }
+
+    /**
+     * World and chunk keys a hologram is registered under in the chunk index
+     */
+    private record IndexedChunks(String worldName, Set<Long> chunkKeys) {
+    }
+
+    /**
+     * Rebuild the chunk index entries of a hologram, e.g. after it was moved or lines were added.
+     * Nothing is touched if its lines are still in the same chunks, which is the common case
+     * for the small steps of a move session.
+     */
+    public void reindexChunks(String hologramName) {
+        HologramDisplay display = activeHolograms.get(hologramName);
+        IndexedChunks chunks = display != null ? collectChunks(display) : null;
+        if (chunks != null && chunks.equals(hologramChunks.get(hologramName))) {
+            return;
+        }
+
+        unindexChunks(hologramName);
+        if (chunks != null) {
+            indexChunks(hologramName, chunks);
+        }
+    }
+
+    /**
+     * Register every chunk that contains a line of the hologram
+     */
+    private void indexChunks(HologramDisplay display) {
+        IndexedChunks chunks = collectChunks(display);
+        if (chunks != null) {
+            indexChunks(display.getHologramName(), chunks);
         }
+    }
 
-        pdcManager.removeAllHologramDisplays();
+    private void indexChunks(String hologramName, IndexedChunks chunks) {
+        Map<Long, Set<String>> worldChunks = chunkIndex.computeIfAbsent(chunks.worldName(), k -> new HashMap<>());
+        for (long key : chunks.chunkKeys()) {
+            worldChunks.computeIfAbsent(key, k -> new HashSet<>()).add(hologramName);
+        }
+        hologramChunks.put(hologramName, chunks);
+    }
 
-        Logger.info("Despawned all holograms");
+    /**
+     * Get the chunks that contain a line of the hologram, or null if its world is not available
+     */
+    private IndexedChunks collectChunks(HologramDisplay display) {
+        Location baseLocation = display.getBaseLocation();
+        if (baseLocation == null || baseLocation.getWorld() == null) {
+            return null;
+        }
+
+        Set<Long> keys = new HashSet<>();
+        for (int i = 0; i < display.getHologramConfig().getLines().size(); i++) {
+            Location lineLocation = display.getLineEntityLocation(i);
+            keys.add(chunkKey(lineLocation.getBlockX() >> 4, lineLocation.getBlockZ() >> 4));
+        }
+        return new IndexedChunks(baseLocation.getWorld().getName(), keys);
+    }
+
+    /**
+     * Remove a hologram from the chunks it was registered in
+     */
+    private void unindexChunks(String hologramName) {
+        IndexedChunks chunks = hologramChunks.remove(hologramName);
+        if (chunks == null) {
+            return;
+        }
+
+        Map<Long, Set<String>> worldChunks = chunkIndex.get(chunks.worldName());
+        if (worldChunks == null) {
+            return;
+        }
+        for (long key : chunks.chunkKeys()) {
+            Set<String> names = worldChunks.get(key);
+            if (names != null && names.remove(hologramName) && names.isEmpty()) {
+                worldChunks.remove(key);
+            }
+        }
+        if (worldChunks.isEmpty()) {
+            chunkIndex.remove(chunks.worldName());
+        }
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return (chunkX & 0xFFFFFFFFL) | ((chunkZ & 0xFFFFFFFFL) << 32);
     }
 
     /**
@@ -138,6 +776,28 @@ public class HologramDisplayManager {
         return activeHolograms.size();
     }
 
+    /**
+     * Get the number of lines of all active holograms
+     */
+    public int getActiveLineCount() {
+        int count = 0;
+        for (HologramDisplay display : activeHolograms.values()) {
+            count += display.getHologramConfig().getLines().size();
+        }
+        return count;
+    }
+
+    /**
+     * Get the number of entities spawned for all active holograms
+     */
+    public int getActiveEntityCount() {
+        int count = 0;
+        for (HologramDisplay display : activeHolograms.values()) {
+            count += display.getEntityCount();
+        }
+        return count;
+    }
+
     /**
      * Reload holograms - despawn all and reload from configuration
      * This should be called after reloading the configuration files
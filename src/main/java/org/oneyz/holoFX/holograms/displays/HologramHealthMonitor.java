@@ -0,0 +1,152 @@
+package org.oneyz.holoFX.holograms.displays;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.TextDisplay;
+import org.bukkit.scheduler.BukkitTask;
+import org.oneyz.holoFX.HoloFX;
+import org.oneyz.holoFX.utils.HologramPDCManager;
+import org.oneyz.holoFX.utils.Logger;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Self-healing monitor for active holograms.
+ * Every tick a rotating slice of holograms is checked; lines whose entity was removed
+ * (e.g. by another plugin or /kill) while their chunk is loaded are respawned from the model.
+ */
+public class HologramHealthMonitor {
+
+    private final HoloFX plugin;
+    private final HologramDisplayManager displayManager;
+    private final HologramPDCManager pdcManager;
+
+    private BukkitTask task;
+    private final Deque<String> rotation = new ArrayDeque<>();
+
+    /**
+     * Hologram name -> number of lines respawned by the monitor
+     */
+    private final Map<String, Integer> repairCounts = new ConcurrentHashMap<>();
+    private long totalChecks;
+    private long totalRespawned;
+    private long totalRebound;
+    private long totalRetagged;
+
+    public HologramHealthMonitor(HoloFX plugin, HologramDisplayManager displayManager) {
+        this.plugin = plugin;
+        this.displayManager = displayManager;
+        this.pdcManager = displayManager.getPdcManager();
+    }
+
+    /**
+     * Start the monitor using the options from config.yml
+     */
+    public void start() {
+        stop();
+
+        if (!plugin.getConfigManager().isHealthMonitorEnabled()) {
+            Logger.fine("Hologram health monitor is disabled");
+            return;
+        }
+
+        task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 20L, 1L);
+    }
+
+    /**
+     * Stop the monitor
+     */
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        rotation.clear();
+    }
+
+    /**
+     * Check the next slice of active holograms
+     */
+    private void tick() {
+        int budget = plugin.getConfigManager().getHealthHologramsPerTick();
+
+        for (int i = 0; i < budget; i++) {
+            if (rotation.isEmpty()) {
+                rotation.addAll(displayManager.getActiveHolograms().keySet());
+                if (rotation.isEmpty()) {
+                    return;
+                }
+            }
+
+            HologramDisplay display = displayManager.getHologram(rotation.poll());
+            if (display != null && display.isActive()) {
+                check(display);
+            }
+        }
+    }
+
+    /**
+     * Check every line of a hologram and repair the broken ones
+     */
+    private void check(HologramDisplay display) {
+        totalChecks++;
+        int respawned = 0;
+
+        if (display.isRigMode() && (display.getRootDisplay() == null || !display.getRootDisplay().isValid())
+                && display.isLineChunkLoaded(0) && display.ensureRoot() != null) {
+            totalRespawned++;
+            repairCounts.merge(display.getHologramName(), 1, Integer::sum);
+            Logger.warning("Health monitor respawned the rig root of hologram '" + display.getHologramName() + "'");
+        }
+
+        for (int lineIndex : display.getRenderPlan().getSlots()) {
+            TextDisplay textDisplay = display.getDisplay(lineIndex);
+
+            if (textDisplay != null && textDisplay.isValid()) {
+                if (!pdcManager.hasTags(textDisplay, display.getHologramUuid(), lineIndex)) {
+                    pdcManager.markAsHologram(textDisplay, display.getHologramName(), lineIndex, display.getHologramUuid());
+                    totalRetagged++;
+                }
+                continue;
+            }
+
+            if (!display.isLineChunkLoaded(lineIndex)) {
+                continue;
+            }
+
+            if (textDisplay != null && Bukkit.getEntity(textDisplay.getUniqueId()) instanceof TextDisplay reloaded
+                    && display.attachLine(lineIndex, reloaded)) {
+                totalRebound++;
+                continue;
+            }
+
+            if (display.respawnLine(lineIndex)) {
+                displayManager.getVisibilityManager()
+                        .updateLineVisibility(display, lineIndex, Bukkit.getOnlinePlayers());
+                respawned++;
+            }
+        }
+
+        if (respawned > 0) {
+            totalRespawned += respawned;
+            int total = repairCounts.merge(display.getHologramName(), respawned, Integer::sum);
+            Logger.warning("Health monitor respawned " + respawned + " removed line(s) of hologram '"
+                    + display.getHologramName() + "' (" + total + " repair(s) since start)");
+        }
+    }
+
+    /**
+     * Get the number of respawned lines per hologram since the monitor was created
+     */
+    public Map<String, Integer> getRepairCounts() {
+        return Collections.unmodifiableMap(repairCounts);
+    }
+
+    /**
+     * Get a one-line summary of the monitor counters
+     */
+    public String getSummary() {
+        return totalChecks + " check(s), " + totalRespawned + " line(s) respawned, "
+                + totalRebound + " rebound, " + totalRetagged + " retagged";
+    }
+}
@@ -0,0 +1,237 @@
+package org.oneyz.holoFX.holograms.displays;
+
+import org.bukkit.Bukkit;
+import org.bukkit.FluidCollisionMode;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+import org.bukkit.util.RayTraceResult;
+import org.bukkit.util.Vector;
+import org.oneyz.holoFX.HoloFX;
+import org.oneyz.holoFX.models.Hologram;
+import org.oneyz.holoFX.utils.Logger;
+
+import java.util.*;
+
+/**
+ * Interactive move sessions: while a session is open the hologram follows the editor's look target.
+ * Updates are rate-limited to the configured interval and the display entities use teleport
+ * interpolation, so clients animate smoothly between positions. The location is saved once, when the session ends.
+ */
+public class HologramMoveSessionManager {
+
+    /**
+     * Squared distance below which a new target is not worth a teleport
+     */
+    private static final double MIN_MOVE_DISTANCE_SQUARED = 0.0025;
+
+    private final HoloFX plugin;
+    private final HologramDisplayManager displayManager;
+
+    /**
+     * Player UUID -> open session
+     */
+    private final Map<UUID, MoveSession> sessions = new HashMap<>();
+    private BukkitTask task;
+
+    public HologramMoveSessionManager(HoloFX plugin, HologramDisplayManager displayManager) {
+        this.plugin = plugin;
+        this.displayManager = displayManager;
+    }
+
+    /**
+     * State of a single move session
+     */
+    private static class MoveSession {
+        private final String hologramName;
+        private final Hologram.Location originalLocation;
+        private Location lastTarget;
+
+        private MoveSession(String hologramName, Hologram.Location originalLocation) {
+            this.hologramName = hologramName;
+            this.originalLocation = originalLocation;
+        }
+    }
+
+    /**
+     * Open a move session for a player, ending any session they already have
+     *
+     * @return false if the hologram is not active or is already being moved by someone else
+     */
+    public boolean startSession(Player player, String hologramName) {
+        HologramDisplay display = displayManager.getHologram(hologramName);
+        if (display == null || isBeingMoved(hologramName, player.getUniqueId())) {
+            return false;
+        }
+
+        endSession(player, true);
+
+        Hologram.Location original = copyOf(display.getHologramConfig().getLocation());
+
+        display.setTeleportDuration(getIntervalTicks());
+        sessions.put(player.getUniqueId(), new MoveSession(hologramName, original));
+
+        if (task == null) {
+            long interval = getIntervalTicks();
+            task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, interval, interval);
+        }
+        return true;
+    }
+
+    /**
+     * End the session of a player
+     *
+     * @param save true to keep and save the new location, false to move the hologram back
+     * @return The name of the moved hologram, or null if the player had no session
+     */
+    public String endSession(Player player, boolean save) {
+        MoveSession session = sessions.remove(player.getUniqueId());
+        if (session == null) {
+            return null;
+        }
+
+        finish(session, save);
+        if (sessions.isEmpty()) {
+            stopTask();
+        }
+        return session.hologramName;
+    }
+
+    /**
+     * End every open session, saving the current locations
+     */
+    public void endAllSessions() {
+        for (MoveSession session : sessions.values()) {
+            finish(session, true);
+        }
+        sessions.clear();
+        stopTask();
+    }
+
+    /**
+     * Get the name of the hologram a player is moving, or null
+     */
+    public String getSessionHologram(Player player) {
+        MoveSession session = sessions.get(player.getUniqueId());
+        return session != null ? session.hologramName : null;
+    }
+
+    /**
+     * Check if a hologram is being moved by a player other than the given one
+     */
+    private boolean isBeingMoved(String hologramName, UUID except) {
+        for (Map.Entry<UUID, MoveSession> entry : sessions.entrySet()) {
+            if (!entry.getKey().equals(except) && entry.getValue().hologramName.equalsIgnoreCase(hologramName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Move every session's hologram to its editor's current look target
+     */
+    private void tick() {
+        Iterator<Map.Entry<UUID, MoveSession>> iterator = sessions.entrySet().iterator();
+
+        while (iterator.hasNext()) {
+            Map.Entry<UUID, MoveSession> entry = iterator.next();
+            MoveSession session = entry.getValue();
+            Player player = Bukkit.getPlayer(entry.getKey());
+            HologramDisplay display = displayManager.getHologram(session.hologramName);
+
+            if (player == null || display == null) {
+                iterator.remove();
+                if (display != null) {
+                    finish(session, true);
+                }
+                continue;
+            }
+
+            Location target = findTarget(player);
+            if (!target.getWorld().equals(display.getBaseLocation().getWorld())) {
+                continue;
+            }
+            if (session.lastTarget != null && session.lastTarget.distanceSquared(target) < MIN_MOVE_DISTANCE_SQUARED) {
+                continue;
+            }
+            session.lastTarget = target;
+
+            Hologram.Location newLocation = Hologram.Location.builder()
+                    .world(target.getWorld().getName())
+                    .x(target.getX())
+                    .y(target.getY())
+                    .z(target.getZ())
+                    .yaw(display.getHologramConfig().getLocation().getYaw())
+                    .build();
+            displayManager.moveHologram(session.hologramName, newLocation);
+        }
+
+        if (sessions.isEmpty()) {
+            stopTask();
+        }
+    }
+
+    /**
+     * Get the block the player is looking at within the configured distance, or the point at that distance
+     */
+    private Location findTarget(Player player) {
+        double distance = plugin.getConfigManager().getMoveDistance();
+        Location eye = player.getEyeLocation();
+        Vector direction = eye.getDirection();
+
+        RayTraceResult result = player.getWorld().rayTraceBlocks(eye, direction, distance, FluidCollisionMode.NEVER, true);
+        if (result != null) {
+            return result.getHitPosition().toLocation(player.getWorld());
+        }
+        return eye.add(direction.multiply(distance));
+    }
+
+    /**
+     * Stop interpolating and either save the new location or restore the original one
+     */
+    private void finish(MoveSession session, boolean save) {
+        HologramDisplay display = displayManager.getHologram(session.hologramName);
+        if (display == null) {
+            return;
+        }
+
+        display.setTeleportDuration(0);
+        if (!save) {
+            displayManager.moveHologram(session.hologramName, session.originalLocation);
+            return;
+        }
+
+        Hologram.Location location = copyOf(display.getHologramConfig().getLocation());
+        plugin.getHologramLoader().saveHologramLocationAsync(session.hologramName, location)
+                .thenAccept(saved -> {
+                    if (!saved) {
+                        Logger.warning("Hologram '" + session.hologramName + "' was moved but its location could not be saved");
+                    }
+                });
+    }
+
+    /**
+     * Detached copy of a model location, safe to hand to the save thread
+     */
+    private static Hologram.Location copyOf(Hologram.Location location) {
+        return Hologram.Location.builder()
+                .world(location.getWorld())
+                .x(location.getX())
+                .y(location.getY())
+                .z(location.getZ())
+                .yaw(location.getYaw())
+                .build();
+    }
+
+    private int getIntervalTicks() {
+        return plugin.getConfigManager().getMoveUpdateIntervalTicks();
+    }
+
+    private void stopTask() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package org.oneyz.holoFX.holograms.displays;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.TextDisplay;
+import org.bukkit.scheduler.BukkitTask;
+import org.oneyz.holoFX.HoloFX;
+import org.oneyz.holoFX.utils.HologramPDCManager;
+import org.oneyz.holoFX.utils.Logger;
+import org.oneyz.holoFX.utils.WorldRegistry;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Background sweeper that removes orphaned and duplicate hologram displays.
+ * Loaded chunks are walked a few at a time per tick, so the per-tick cost stays bounded
+ * regardless of how many chunks or entities a world holds.
+ */
+public class HologramOrphanSweeper {
+
+    private final HoloFX plugin;
+    private final HologramDisplayManager displayManager;
+    private final HologramPDCManager pdcManager;
+
+    private BukkitTask scheduleTask;
+    private BukkitTask sweepTask;
+
+    private final Deque<ChunkRef> pendingChunks = new ArrayDeque<>();
+    private Entity[] currentEntities;
+    private int currentEntityIndex;
+
+    private SweepResult currentResult;
+    private SweepResult lastResult;
+
+    public HologramOrphanSweeper(HoloFX plugin, HologramDisplayManager displayManager) {
+        this.plugin = plugin;
+        this.displayManager = displayManager;
+        this.pdcManager = displayManager.getPdcManager();
+    }
+
+    /**
+     * Start periodic sweeps using the interval from config.yml
+     */
+    public void start() {
+        stop();
+
+        if (!plugin.getConfigManager().isSweeperEnabled()) {
+            Logger.fine("Orphan sweeper is disabled");
+            return;
+        }
+
+        long intervalTicks = plugin.getConfigManager().getSweeperIntervalSeconds() * 20L;
+        scheduleTask = Bukkit.getScheduler().runTaskTimer(plugin, this::startSweep, intervalTicks, intervalTicks);
+    }
+
+    /**
+     * Stop periodic sweeps and abort a sweep in progress
+     */
+    public void stop() {
+        if (scheduleTask != null) {
+            scheduleTask.cancel();
+            scheduleTask = null;
+        }
+        abortSweep();
+    }
+
+    /**
+     * Start a single sweep over all currently loaded chunks
+     *
+     * @return false if a sweep is already running or holograms are still being spawned
+     */
+    public boolean startSweep() {
+        if (isSweeping()) {
+            return false;
+        }
+
+        if (plugin.getBatchLoader() != null && plugin.getBatchLoader().isProcessing()) {
+            Logger.fine("Skipping orphan sweep while holograms are being spawned");
+            return false;
+        }
+
+        for (World world : Bukkit.getWorlds()) {
+            for (Chunk chunk : world.getLoadedChunks()) {
+                pendingChunks.add(new ChunkRef(world.getName(), chunk.getX(), chunk.getZ()));
+            }
+        }
+
+        currentResult = new SweepResult(System.currentTimeMillis());
+        sweepTask = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+        return true;
+    }
+
+    /**
+     * Check if a sweep is currently running
+     */
+    public boolean isSweeping() {
+        return sweepTask != null;
+    }
+
+    /**
+     * Get the totals of the last completed sweep, or null if no sweep has completed yet
+     */
+    public SweepResult getLastResult() {
+        return lastResult;
+    }
+
+    /**
+     * Process a bounded amount of chunks and entities
+     */
+    private void tick() {
+        int chunkBudget = plugin.getConfigManager().getSweeperChunksPerTick();
+        int entityBudget = plugin.getConfigManager().getSweeperEntitiesPerTick();
+
+        while (entityBudget > 0) {
+            if (currentEntities == null || currentEntityIndex >= currentEntities.length) {
+                if (chunkBudget <= 0 || !loadNextChunk()) {
+                    break;
+                }
+                chunkBudget--;
+                continue;
+            }
+
+            Entity entity = currentEntities[currentEntityIndex++];
+            entityBudget--;
+            currentResult.entitiesChecked++;
+
+            if (entity.isValid() && pdcManager.isHologramDisplay(entity)) {
+                checkDisplay((TextDisplay) entity);
+            }
+        }
+
+        boolean chunkFinished = currentEntities == null || currentEntityIndex >= currentEntities.length;
+        if (chunkFinished && pendingChunks.isEmpty()) {
+            finishSweep();
+        }
+    }
+
+    /**
+     * Take the next pending chunk that is still loaded
+     *
+     * @return false if there are no chunks left
+     */
+    private boolean loadNextChunk() {
+        currentEntities = null;
+        currentEntityIndex = 0;
+
+        ChunkRef ref = pendingChunks.poll();
+        if (ref == null) {
+            return false;
+        }
+
+        World world = WorldRegistry.getWorld(ref.worldName());
+        if (world != null && world.isChunkLoaded(ref.x(), ref.z())) {
+            Chunk chunk = world.getChunkAt(ref.x(), ref.z());
+            if (chunk.isEntitiesLoaded()) {
+                currentEntities = chunk.getEntities();
+            }
+        }
+        currentResult.chunksScanned++;
+        return true;
+    }
+
+    private void checkDisplay(TextDisplay display) {
+        currentResult.displaysChecked++;
+
+        switch (displayManager.reconcileTaggedDisplay(display, true)) {
+            case ORPHAN -> currentResult.orphansRemoved++;
+            case DUPLICATE -> currentResult.duplicatesRemoved++;
+            case REATTACHED -> currentResult.reattached++;
+            default -> {
+            }
+        }
+    }
+
+    private void finishSweep() {
+        SweepResult result = currentResult;
+        result.durationMs = System.currentTimeMillis() - result.startedAt;
+        abortSweep();
+        lastResult = result;
+
+        if (result.orphansRemoved > 0 || result.duplicatesRemoved > 0 || result.reattached > 0) {
+            Logger.info("Orphan sweep finished: " + result);
+        } else {
+            Logger.fine("Orphan sweep finished: " + result);
+        }
+    }
+
+    private void abortSweep() {
+        if (sweepTask != null) {
+            sweepTask.cancel();
+            sweepTask = null;
+        }
+        pendingChunks.clear();
+        currentEntities = null;
+        currentEntityIndex = 0;
+        currentResult = null;
+    }
+
+    private record ChunkRef(String worldName, int x, int z) {
+    }
+
+    /**
+     * Totals of a single sweep
+     */
+    public static class SweepResult {
+        public final long startedAt;
+        public long durationMs;
+        public int chunksScanned;
+        public int entitiesChecked;
+        public int displaysChecked;
+        public int orphansRemoved;
+        public int duplicatesRemoved;
+        public int reattached;
+
+        public SweepResult(long startedAt) {
+            this.startedAt = startedAt;
+        }
+
+        @Override
+        public String toString() {
+            return chunksScanned + " chunk(s), " + entitiesChecked + " entities, " + displaysChecked
+                    + " display(s) checked; removed " + orphansRemoved + " orphan(s) and "
+                    + duplicatesRemoved + " duplicate(s), reattached " + reattached + " in " + durationMs + "ms";
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package org.oneyz.holoFX.holograms.displays;
+
+import org.oneyz.holoFX.models.Hologram;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Vertical layout of hologram lines. A TextDisplay renders upwards from its location, so a line
+ * sits directly below the previous one when its offset is the previous offset minus its own height.
+ * The height follows the number of text lines and the Y scale of the line.
+ */
+public final class LineLayout {
+
+    /**
+     * Height of one text line of a TextDisplay at scale 1
+     */
+    public static final double TEXT_LINE_HEIGHT = 0.25;
+    private static final double EPSILON = 1.0E-4;
+
+    private LineLayout() {
+    }
+
+    /**
+     * Get the rendered height of a line
+     */
+    public static double getLineHeight(Hologram.Line line) {
+        return getLineHeight(line.getTextAsString(), line.getDisplaySettings());
+    }
+
+    /**
+     * Get the rendered height of a text with the given settings
+     */
+    public static double getLineHeight(String text, Hologram.DisplaySettings settings) {
+        int textLines = 1;
+        if (text != null) {
+            for (int i = 0; i < text.length(); i++) {
+                if (text.charAt(i) == '\n') {
+                    textLines++;
+                }
+            }
+        }
+        return TEXT_LINE_HEIGHT * textLines * getScaleY(settings);
+    }
+
+    /**
+     * Get the Y scale of the settings, 1 if not set
+     */
+    public static double getScaleY(Hologram.DisplaySettings settings) {
+        List<Float> scale = settings != null ? settings.getScale() : null;
+        return scale != null && scale.size() >= 3 ? scale.get(1) : 1.0;
+    }
+
+    /**
+     * Get the Y offset for a line appended directly below the given lines
+     */
+    public static double getOffsetBelow(List<Hologram.Line> lines, Hologram.Line line) {
+        if (lines.isEmpty()) {
+            return 0.0;
+        }
+        return lines.get(lines.size() - 1).getOffset().getY() - getLineHeight(line);
+    }
+
+    /**
+     * Move lines vertically, e.g. the lines below an inserted or removed line
+     *
+     * @param lines The lines, updated in place with shifted offsets
+     * @param from Index of the first line to move
+     * @param dy Distance to move, negative to move down
+     * @return Indices of the lines that were moved
+     */
+    public static List<Integer> shift(List<Hologram.Line> lines, int from, double dy) {
+        List<Integer> shifted = new ArrayList<>();
+        if (Math.abs(dy) < EPSILON) {
+            return shifted;
+        }
+
+        for (int i = Math.max(0, from); i < lines.size(); i++) {
+            Hologram.Line line = lines.get(i);
+            Hologram.Offset offset = line.getOffset();
+            lines.set(i, line.toBuilder()
+                    .offset(offset.toBuilder().y(offset.getY() + dy).build())
+                    .build());
+            shifted.add(i);
+        }
+        return shifted;
+    }
+
+    /**
+     * Restack lines after their heights changed. Every line below a line whose height changed is
+     * shifted by the accumulated difference, so manual gaps between lines are kept. The first line
+     * keeps its offset and grows upwards.
+     *
+     * @param oldLines The lines before the change
+     * @param lines The changed lines, updated in place with shifted offsets
+     * @return Indices of the lines whose offset was shifted
+     */
+    public static List<Integer> restack(List<Hologram.Line> oldLines, List<Hologram.Line> lines) {
+        List<Integer> shifted = new ArrayList<>();
+        double shift = 0.0;
+
+        for (int i = 1; i < lines.size() && i < oldLines.size(); i++) {
+            shift += getLineHeight(lines.get(i)) - getLineHeight(oldLines.get(i));
+            if (Math.abs(shift) < EPSILON) {
+                continue;
+            }
+
+            Hologram.Line line = lines.get(i);
+            Hologram.Offset offset = line.getOffset();
+            lines.set(i, line.toBuilder()
+                    .offset(offset.toBuilder().y(oldLines.get(i).getOffset().getY() - shift).build())
+                    .build());
+            shifted.add(i);
+        }
+        return shifted;
+    }
+}
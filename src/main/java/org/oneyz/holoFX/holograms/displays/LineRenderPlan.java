@@ -0,0 +1,199 @@
+package org.oneyz.holoFX.holograms.displays;
+
+import org.oneyz.holoFX.loader.HologramLoader;
+import org.oneyz.holoFX.models.Hologram;
+
+import java.util.*;
+
+/**
+ * Maps the lines of a hologram to the TextDisplay entities that render them.
+ * Consecutive lines with identical display settings that are stacked exactly one text line apart
+ * are merged into a single entity ("slot") with newline-joined text. A slot is identified by the
+ * index of its first line. Lines with a permission are never merged, so visibility stays per line.
+ */
+public final class LineRenderPlan {
+
+    private static final double EPSILON = 1.0E-4;
+
+    private final int[] slotOfLine; // Line index -> first line index of its slot
+    private final int[] slotEnd; // First line index -> last line index of the slot (inclusive)
+    private final List<Integer> slots;
+
+    /**
+     * First line index -> render line of a merged slot, built on first use and kept while its lines are unchanged
+     */
+    private final MergedLine[] mergedLines;
+
+    private LineRenderPlan(int[] slotOfLine, int[] slotEnd, List<Integer> slots) {
+        this.slotOfLine = slotOfLine;
+        this.slotEnd = slotEnd;
+        this.slots = slots;
+        this.mergedLines = new MergedLine[slotOfLine.length];
+    }
+
+    /**
+     * Build the render plan of a list of lines
+     *
+     * @param lines The lines of the hologram
+     * @param merge Whether mergeable lines share an entity; if false every line gets its own slot
+     */
+    public static LineRenderPlan compile(List<Hologram.Line> lines, boolean merge) {
+        int[] slotOfLine = new int[lines.size()];
+        int[] slotEnd = new int[lines.size()];
+        List<Integer> slots = new ArrayList<>();
+
+        int slot = -1;
+        for (int i = 0; i < lines.size(); i++) {
+            if (slot < 0 || !merge || !canMerge(lines.get(slot), lines.get(i - 1), lines.get(i))) {
+                slot = i;
+                slots.add(slot);
+            }
+            slotOfLine[i] = slot;
+            slotEnd[slot] = i;
+        }
+
+        return new LineRenderPlan(slotOfLine, slotEnd, Collections.unmodifiableList(slots));
+    }
+
+    /**
+     * Check if a line can be appended to the slot started by the first line, directly below the previous line
+     */
+    private static boolean canMerge(Hologram.Line first, Hologram.Line previous, Hologram.Line line) {
+        if (!isMergeable(first) || !isMergeable(line)) {
+            return false;
+        }
+
+        Hologram.DisplaySettings settings = first.getDisplaySettings();
+        if (settings != line.getDisplaySettings()
+                && !HologramLoader.serializeDisplaySettings(settings)
+                .equals(HologramLoader.serializeDisplaySettings(line.getDisplaySettings()))) {
+            return false;
+        }
+
+        Hologram.Offset above = previous.getOffset();
+        Hologram.Offset offset = line.getOffset();
+        double step = LineLayout.getLineHeight(line);
+        return Math.abs(above.getX() - offset.getX()) < EPSILON
+                && Math.abs(above.getZ() - offset.getZ()) < EPSILON
+                && Math.abs(above.getY() - step - offset.getY()) < EPSILON;
+    }
+
+    /**
+     * Lines with a permission, own line breaks, placeholders, an animation or a motion always render on their own
+     */
+    private static boolean isMergeable(Hologram.Line line) {
+        Hologram.DisplaySettings settings = line.getDisplaySettings();
+        if (settings == null || line.getOffset() == null || line.getAnimation() != null
+                || line.getMotion() != null) {
+            return false;
+        }
+        if (settings.getPermission() != null && !settings.getPermission().isEmpty()) {
+            return false;
+        }
+        return line.getTextAsString().indexOf('\n') < 0 && line.getTemplate().isStatic();
+    }
+
+    /**
+     * Get the slot that renders a line
+     *
+     * @return The first line index of the slot, or -1 if the line does not exist
+     */
+    public int getSlot(int lineIndex) {
+        return lineIndex >= 0 && lineIndex < slotOfLine.length ? slotOfLine[lineIndex] : -1;
+    }
+
+    /**
+     * Check if a line index is the first line of a slot, i.e. owns an entity
+     */
+    public boolean isSlot(int lineIndex) {
+        return getSlot(lineIndex) == lineIndex;
+    }
+
+    /**
+     * Get the last line index (inclusive) rendered by a slot
+     */
+    public int getSlotEnd(int slot) {
+        return isSlot(slot) ? slotEnd[slot] : -1;
+    }
+
+    /**
+     * Get the first line index of every slot, in order
+     */
+    public List<Integer> getSlots() {
+        return slots;
+    }
+
+    public int getLineCount() {
+        return slotOfLine.length;
+    }
+
+    /**
+     * Get the line actually rendered by a slot: the first line with the text of all merged lines,
+     * positioned at the lowest line since text displays grow upwards from their location.
+     * The line of a merged slot is built once and reused, so its rendered text is compiled once;
+     * it is rebuilt when one of the merged lines was replaced or got a new text.
+     */
+    public Hologram.Line getRenderLine(List<Hologram.Line> lines, int slot) {
+        int end = getSlotEnd(slot);
+        if (end == slot) {
+            return lines.get(slot);
+        }
+
+        MergedLine cached = mergedLines[slot];
+        if (cached != null && cached.matches(lines, slot)) {
+            return cached.line;
+        }
+
+        StringBuilder text = new StringBuilder(lines.get(slot).getTextAsString());
+        for (int i = slot + 1; i <= end; i++) {
+            text.append('\n').append(lines.get(i).getTextAsString());
+        }
+        Hologram.Line line = lines.get(slot).toBuilder()
+                .text(text.toString())
+                .offset(lines.get(end).getOffset())
+                .build();
+        mergedLines[slot] = new MergedLine(lines, slot, end, line);
+        return line;
+    }
+
+    /**
+     * Render line of a merged slot together with the lines and texts it was built from
+     */
+    private static final class MergedLine {
+        private final Hologram.Line[] sources;
+        private final String[] texts;
+        private final Hologram.Line line;
+
+        private MergedLine(List<Hologram.Line> lines, int slot, int end, Hologram.Line line) {
+            this.sources = new Hologram.Line[end - slot + 1];
+            this.texts = new String[sources.length];
+            for (int i = 0; i < sources.length; i++) {
+                sources[i] = lines.get(slot + i);
+                texts[i] = sources[i].getText();
+            }
+            this.line = line;
+        }
+
+        private boolean matches(List<Hologram.Line> lines, int slot) {
+            for (int i = 0; i < sources.length; i++) {
+                Hologram.Line source = lines.get(slot + i);
+                if (source != sources[i] || source.getText() != texts[i]) {
+                    return false;
+                }
+            }
+            // Settings and offset may also be replaced through the setters of the same line objects
+            return sources[0].getDisplaySettings() == line.getDisplaySettings()
+                    && sources[sources.length - 1].getOffset() == line.getOffset();
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof LineRenderPlan other && Arrays.equals(slotOfLine, other.slotOfLine);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(slotOfLine);
+    }
+}
@@ -3,10 +3,13 @@ package org.oneyz.holoFX.holograms.displays;
 import org.bukkit.Color;
 import org.bukkit.Location;
 import org.bukkit.entity.Display;
+import org.bukkit.entity.Entity;
 import org.bukkit.entity.TextDisplay;
 import org.oneyz.holoFX.models.Hologram;
 import org.oneyz.holoFX.utils.Logger;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -14,6 +17,19 @@ import java.util.Objects;
  */
 public class TextDisplayManager {
 
+    /**
+     * Transformation of lines without display settings
+     */
+    private static final org.bukkit.util.Transformation IDENTITY_TRANSFORMATION = new org.bukkit.util.Transformation(
+            new org.joml.Vector3f(), new org.joml.Quaternionf(), new org.joml.Vector3f(1.0f), new org.joml.Quaternionf());
+
+    /**
+     * Vanilla values of the optional display properties, used when a reused entity's new line leaves them unset
+     */
+    private static final float DEFAULT_SHADOW_RADIUS = 0.0f;
+    private static final float DEFAULT_SHADOW_STRENGTH = 1.0f;
+    private static final float DEFAULT_VIEW_RANGE = 1.0f;
+
     /**
      * Create a TEXT_DISPLAY entity from a hologram configuration
      *
@@ -22,6 +38,19 @@ public class TextDisplayManager {
      * @return The created TextDisplay entity, or null if creation failed
      */
     public static TextDisplay createTextDisplay(Location location, Hologram.Line line) {
+        return createTextDisplay(location, line, true);
+    }
+
+    /**
+     * Create a TEXT_DISPLAY entity from a hologram configuration.
+     * The entity is fully configured before it is added to the world.
+     *
+     * @param location The base location for the hologram
+     * @param line The line configuration
+     * @param persistent Whether the entity should be saved into chunk data
+     * @return The created TextDisplay entity, or null if creation failed
+     */
+    public static TextDisplay createTextDisplay(Location location, Hologram.Line line, boolean persistent) {
         if (location == null || line == null) {
             Logger.warning("Cannot create TextDisplay with null location or line");
             return null;
@@ -33,46 +62,138 @@ public class TextDisplayManager {
                     line.getOffset().getY(),
                     line.getOffset().getZ()
             );
-            TextDisplay textDisplay = (TextDisplay) Objects.requireNonNull(location.getWorld())
-                    .spawnEntity(displayLocation, org.bukkit.entity.EntityType.TEXT_DISPLAY);
-            applyText(textDisplay, line);
-            applyDisplaySettings(textDisplay, line.getDisplaySettings());
+            return Objects.requireNonNull(location.getWorld())
+                    .spawn(displayLocation, TextDisplay.class, textDisplay -> {
+                        textDisplay.setPersistent(persistent);
+                        applyText(textDisplay, line);
+                        applyDisplaySettings(textDisplay, line.getDisplaySettings());
+                    });
+
+        } catch (Exception e) {
+            Logger.severe("Failed to create TextDisplay entity", e);
+            return null;
+        }
+    }
+
+    /**
+     * Create a TEXT_DISPLAY entity mounted as a passenger of a rig root.
+     * The line is spawned at the root position and its offset becomes part of its transformation translation.
+     *
+     * @param root The root entity of the hologram rig
+     * @param line The line configuration
+     * @param persistent Whether the entity should be saved into chunk data
+     * @return The created TextDisplay entity, or null if creation failed
+     */
+    public static TextDisplay createRiggedTextDisplay(TextDisplay root, Hologram.Line line, boolean persistent) {
+        if (root == null || line == null) {
+            Logger.warning("Cannot create rigged TextDisplay with null root or line");
+            return null;
+        }
 
+        try {
+            TextDisplay textDisplay = root.getWorld().spawn(root.getLocation(), TextDisplay.class, display -> {
+                display.setPersistent(persistent);
+                applyText(display, line);
+                applyDisplaySettings(display, line.getDisplaySettings());
+                display.setTransformation(getLineTransformation(line, true));
+            });
+            root.addPassenger(textDisplay);
             return textDisplay;
 
         } catch (Exception e) {
-            Logger.severe("Failed to create TextDisplay entity", e);
+            Logger.severe("Failed to create rigged TextDisplay entity", e);
             return null;
         }
     }
 
     /**
-     * Apply text to a TextDisplay entity
+     * Create the invisible root entity that carries all lines of a hologram in rig mode
+     *
+     * @param location The base location for the hologram
+     * @param persistent Whether the entity should be saved into chunk data
+     * @return The created root entity, or null if creation failed
+     */
+    public static TextDisplay createRigRoot(Location location, boolean persistent) {
+        try {
+            return Objects.requireNonNull(location.getWorld())
+                    .spawn(location, TextDisplay.class, root -> {
+                        root.setPersistent(persistent);
+                        root.setText("");
+                        root.setDefaultBackground(false);
+                        root.setBackgroundColor(Color.fromARGB(0));
+                    });
+
+        } catch (Exception e) {
+            Logger.severe("Failed to create hologram rig root", e);
+            return null;
+        }
+    }
+
+    /**
+     * Move a rig root together with its passengers.
+     * The server refuses to teleport an entity that has passengers, so the lines are dismounted,
+     * moved with the root and mounted again within the same tick.
      */
-    private static void applyText(TextDisplay textDisplay, Hologram.Line line) {
-        String text = line.getTextAsString();
-        String processedText = processColorCodes(text);
+    public static boolean teleportRig(TextDisplay root, Location location) {
+        List<Entity> passengers = new ArrayList<>(root.getPassengers());
+        for (Entity passenger : passengers) {
+            root.removePassenger(passenger);
+        }
 
-        textDisplay.setText(processedText);
+        boolean moved = root.teleport(location);
+        for (Entity passenger : passengers) {
+            passenger.teleport(location);
+            root.addPassenger(passenger);
+        }
+        return moved;
     }
 
     /**
-     * Process Minecraft color codes (&c format) to chat color
+     * Apply text to a TextDisplay entity
      */
-    private static String processColorCodes(String text) {
-        String processed = text.replace('&', '§');
-        return processed;
+    public static void applyText(TextDisplay textDisplay, Hologram.Line line) {
+        textDisplay.setText(line.getRenderedText());
     }
 
     /**
      * Apply display settings to a TextDisplay entity
      */
-    private static void applyDisplaySettings(TextDisplay textDisplay, Hologram.DisplaySettings settings) {
+    public static void applyDisplaySettings(TextDisplay textDisplay, Hologram.DisplaySettings settings) {
         if (settings == null) {
             return;
         }
+        applyTextOpacity(textDisplay, settings);
+        applyLineWidth(textDisplay, settings);
+        applyAlignment(textDisplay, settings);
+        applyBillboard(textDisplay, settings);
+        applyBackground(textDisplay, settings);
+        applySeeThrough(textDisplay, settings);
+        applyShadow(textDisplay, settings);
+        applyBrightness(textDisplay, settings);
+        applyShadowRadius(textDisplay, settings);
+        applyShadowStrength(textDisplay, settings);
+        applyViewRange(textDisplay, settings);
+        applyTransformation(textDisplay, settings);
+    }
+
+    /**
+     * Apply text opacity to a TextDisplay entity
+     */
+    public static void applyTextOpacity(TextDisplay textDisplay, Hologram.DisplaySettings settings) {
         textDisplay.setTextOpacity((byte) settings.getTextOpacity());
+    }
+
+    /**
+     * Apply line width to a TextDisplay entity
+     */
+    public static void applyLineWidth(TextDisplay textDisplay, Hologram.DisplaySettings settings) {
         textDisplay.setLineWidth(settings.getLineWidth());
+    }
+
+    /**
+     * Apply text alignment to a TextDisplay entity
+     */
+    public static void applyAlignment(TextDisplay textDisplay, Hologram.DisplaySettings settings) {
         try {
             TextDisplay.TextAlignment alignment = TextDisplay.TextAlignment.valueOf(
                     settings.getTextAlignment().toUpperCase()
@@ -82,19 +203,50 @@ public class TextDisplayManager {
             Logger.warning("Invalid text alignment: " + settings.getTextAlignment());
             textDisplay.setAlignment(TextDisplay.TextAlignment.CENTER);
         }
+    }
+
+    /**
+     * Apply billboard mode to a TextDisplay entity
+     */
+    public static void applyBillboard(TextDisplay textDisplay, Hologram.DisplaySettings settings) {
         if (settings.getBillboard() != null) {
             Display.Billboard displayBillboard = mapBillboard(settings.getBillboard());
             textDisplay.setBillboard(displayBillboard);
         }
+    }
+
+    /**
+     * Apply background (default or custom ARGB color) to a TextDisplay entity
+     */
+    public static void applyBackground(TextDisplay textDisplay, Hologram.DisplaySettings settings) {
         if (!settings.isDefaultBackground()) {
+            textDisplay.setDefaultBackground(false);
             int bgColorInt = settings.getBackgroundColor();
             Color bgColor = Color.fromARGB(bgColorInt);
             textDisplay.setBackgroundColor(bgColor);
         } else {
             textDisplay.setDefaultBackground(true);
         }
+    }
+
+    /**
+     * Apply see-through flag to a TextDisplay entity
+     */
+    public static void applySeeThrough(TextDisplay textDisplay, Hologram.DisplaySettings settings) {
         textDisplay.setSeeThrough(settings.isSeeThrough());
+    }
+
+    /**
+     * Apply shadow flag to a TextDisplay entity
+     */
+    public static void applyShadow(TextDisplay textDisplay, Hologram.DisplaySettings settings) {
         textDisplay.setShadowed(settings.isShadow());
+    }
+
+    /**
+     * Apply brightness to a TextDisplay entity
+     */
+    public static void applyBrightness(TextDisplay textDisplay, Hologram.DisplaySettings settings) {
         if (settings.getBrightness() != null) {
             int skyBright = (settings.getBrightness() >> 4) & 0x0F;
             int blockBright = settings.getBrightness() & 0x0F;
@@ -102,75 +254,199 @@ public class TextDisplayManager {
             Display.Brightness brightness = new Display.Brightness(skyBright, blockBright);
             textDisplay.setBrightness(brightness);
         }
+    }
+
+    /**
+     * Apply shadow radius to a TextDisplay entity
+     */
+    public static void applyShadowRadius(TextDisplay textDisplay, Hologram.DisplaySettings settings) {
         if (settings.getShadowRadius() != null) {
             textDisplay.setShadowRadius(settings.getShadowRadius().floatValue());
         }
+    }
+
+    /**
+     * Apply shadow strength to a TextDisplay entity
+     */
+    public static void applyShadowStrength(TextDisplay textDisplay, Hologram.DisplaySettings settings) {
+        if (settings.getShadowStrength() != null) {
+            textDisplay.setShadowStrength(settings.getShadowStrength().floatValue());
+        }
+    }
+
+    /**
+     * Apply view range to a TextDisplay entity
+     */
+    public static void applyViewRange(TextDisplay textDisplay, Hologram.DisplaySettings settings) {
         if (settings.getViewRange() != null) {
             textDisplay.setViewRange(settings.getViewRange());
         }
-        applyTransformation(textDisplay, settings);
+    }
+
+    /**
+     * Move a TextDisplay entity to the base location plus the line offset.
+     * Lines mounted on a rig root keep their position and get the offset as translation instead.
+     */
+    public static void applyPosition(TextDisplay textDisplay, Location baseLocation, Hologram.Line line) {
+        if (textDisplay.isInsideVehicle()) {
+            applyLineTransformation(textDisplay, line);
+            return;
+        }
+        textDisplay.teleport(line.getOffset().toRelativeLocation(baseLocation));
     }
 
     /**
      * Apply transformation (scale, rotation, translation) to TextDisplay
      */
-    private static void applyTransformation(TextDisplay textDisplay, Hologram.DisplaySettings settings) {
-        org.bukkit.util.Transformation transformation = textDisplay.getTransformation();
-        if (settings.getTranslation() != null && settings.getTranslation().size() >= 3) {
-            org.joml.Vector3f translation = new org.joml.Vector3f(
-                    settings.getTranslation().get(0),
-                    settings.getTranslation().get(1),
-                    settings.getTranslation().get(2)
-            );
-            transformation = new org.bukkit.util.Transformation(
-                    translation,
-                    transformation.getLeftRotation(),
-                    transformation.getScale(),
-                    transformation.getRightRotation()
-            );
+    public static void applyTransformation(TextDisplay textDisplay, Hologram.DisplaySettings settings) {
+        textDisplay.setTransformation(settings.getCompiledTransformation());
+    }
+
+    /**
+     * Apply the transformation of a line, including its offset when it is mounted on a rig root
+     */
+    public static void applyLineTransformation(TextDisplay textDisplay, Hologram.Line line) {
+        textDisplay.setTransformation(getLineTransformation(line, textDisplay.isInsideVehicle()));
+    }
+
+    /**
+     * Send the target transformation of a motion keyframe. The client interpolates from the current
+     * transformation to the target over the keyframe duration, starting after the given delay.
+     */
+    public static void applyKeyframe(TextDisplay textDisplay, Hologram.Line line, Hologram.Keyframe keyframe, int delayTicks) {
+        textDisplay.setInterpolationDelay(delayTicks);
+        textDisplay.setInterpolationDuration(keyframe.getDurationTicks());
+        textDisplay.setTransformation(keyframe.applyTo(getLineTransformation(line, textDisplay.isInsideVehicle())));
+    }
+
+    /**
+     * Get the transformation of a line. Free-standing lines share the compiled transformation of their
+     * settings; for rigged lines the translation is the configured translation plus the line offset,
+     * since the entity itself sits at the rig root.
+     */
+    private static org.bukkit.util.Transformation getLineTransformation(Hologram.Line line, boolean rigged) {
+        Hologram.DisplaySettings settings = line.getDisplaySettings();
+        org.bukkit.util.Transformation transformation = settings != null
+                ? settings.getCompiledTransformation()
+                : IDENTITY_TRANSFORMATION;
+
+        if (!rigged) {
+            return transformation;
         }
-        if (settings.getRightRotationQuaternion() != null && settings.getRightRotationQuaternion().size() >= 4) {
-            org.joml.Quaternionf rightRotation = new org.joml.Quaternionf(
-                    settings.getRightRotationQuaternion().get(0),
-                    settings.getRightRotationQuaternion().get(1),
-                    settings.getRightRotationQuaternion().get(2),
-                    settings.getRightRotationQuaternion().get(3)
-            );
-            transformation = new org.bukkit.util.Transformation(
-                    transformation.getTranslation(),
-                    transformation.getLeftRotation(),
-                    transformation.getScale(),
-                    rightRotation
-            );
+
+        // The getters return the components of the shared transformation itself, so add onto a copy
+        org.joml.Vector3f translation = new org.joml.Vector3f(transformation.getTranslation()).add(
+                (float) line.getOffset().getX(),
+                (float) line.getOffset().getY(),
+                (float) line.getOffset().getZ()
+        );
+        return new org.bukkit.util.Transformation(
+                translation,
+                transformation.getLeftRotation(),
+                transformation.getScale(),
+                transformation.getRightRotation()
+        );
+    }
+
+    /**
+     * Re-apply only the properties of an existing TextDisplay that differ from the line configuration.
+     * Used when reattaching to an entity that survived a restart, to avoid needless entity updates.
+     *
+     * @param textDisplay The existing TextDisplay entity
+     * @param baseLocation The base location of the hologram
+     * @param line The line configuration
+     * @param persistent Whether the entity should be saved into chunk data
+     * @return Number of properties that were re-applied
+     */
+    public static int reapplyDriftedProperties(TextDisplay textDisplay, Location baseLocation,
+                                               Hologram.Line line, boolean persistent) {
+        int reapplied = 0;
+
+        if (textDisplay.isPersistent() != persistent) {
+            textDisplay.setPersistent(persistent);
+            reapplied++;
         }
-        if (settings.getScale() != null && settings.getScale().size() >= 3) {
-            org.joml.Vector3f scale = new org.joml.Vector3f(
-                    settings.getScale().get(0),
-                    settings.getScale().get(1),
-                    settings.getScale().get(2)
-            );
-            transformation = new org.bukkit.util.Transformation(
-                    transformation.getTranslation(),
-                    transformation.getLeftRotation(),
-                    scale,
-                    transformation.getRightRotation()
-            );
+
+        boolean rigged = textDisplay.isInsideVehicle();
+        Location expectedLocation = line.getOffset().toRelativeLocation(baseLocation);
+        Location currentLocation = textDisplay.getLocation();
+        if (!rigged && (!Objects.equals(currentLocation.getWorld(), expectedLocation.getWorld())
+                || currentLocation.distanceSquared(expectedLocation) > 1.0E-4)) {
+            applyPosition(textDisplay, baseLocation, line);
+            reapplied++;
         }
-        if (settings.getLeftRotationQuaternion() != null && settings.getLeftRotationQuaternion().size() >= 4) {
-            org.joml.Quaternionf leftRotation = new org.joml.Quaternionf(
-                    settings.getLeftRotationQuaternion().get(0),
-                    settings.getLeftRotationQuaternion().get(1),
-                    settings.getLeftRotationQuaternion().get(2),
-                    settings.getLeftRotationQuaternion().get(3)
-            );
-            transformation = new org.bukkit.util.Transformation(
-                    transformation.getTranslation(),
-                    leftRotation,
-                    transformation.getScale(),
-                    transformation.getRightRotation()
-            );
+
+        boolean animated = line.getAnimation() != null; // Text and opacity change with the frames
+        if (!animated && !Objects.equals(textDisplay.getText(), line.getRenderedText())) {
+            applyText(textDisplay, line);
+            reapplied++;
+        }
+
+        Hologram.DisplaySettings settings = line.getDisplaySettings();
+        if (settings == null) {
+            return reapplied;
+        }
+
+        if (!animated && textDisplay.getTextOpacity() != (byte) settings.getTextOpacity()) {
+            applyTextOpacity(textDisplay, settings);
+            reapplied++;
+        }
+        if (textDisplay.getLineWidth() != settings.getLineWidth()) {
+            applyLineWidth(textDisplay, settings);
+            reapplied++;
+        }
+        if (!textDisplay.getAlignment().name().equalsIgnoreCase(settings.getTextAlignment())) {
+            applyAlignment(textDisplay, settings);
+            reapplied++;
+        }
+        if (settings.getBillboard() != null && textDisplay.getBillboard() != mapBillboard(settings.getBillboard())) {
+            applyBillboard(textDisplay, settings);
+            reapplied++;
         }
-        textDisplay.setTransformation(transformation);
+        if (textDisplay.isDefaultBackground() != settings.isDefaultBackground()
+                || (!settings.isDefaultBackground()
+                && !Color.fromARGB(settings.getBackgroundColor()).equals(textDisplay.getBackgroundColor()))) {
+            applyBackground(textDisplay, settings);
+            reapplied++;
+        }
+        if (textDisplay.isSeeThrough() != settings.isSeeThrough()) {
+            applySeeThrough(textDisplay, settings);
+            reapplied++;
+        }
+        if (textDisplay.isShadowed() != settings.isShadow()) {
+            applyShadow(textDisplay, settings);
+            reapplied++;
+        }
+        if (settings.getBrightness() != null) {
+            Display.Brightness expected = new Display.Brightness(
+                    (settings.getBrightness() >> 4) & 0x0F, settings.getBrightness() & 0x0F);
+            if (!expected.equals(textDisplay.getBrightness())) {
+                applyBrightness(textDisplay, settings);
+                reapplied++;
+            }
+        }
+        if (settings.getShadowRadius() != null
+                && textDisplay.getShadowRadius() != settings.getShadowRadius().floatValue()) {
+            applyShadowRadius(textDisplay, settings);
+            reapplied++;
+        }
+        if (settings.getShadowStrength() != null
+                && textDisplay.getShadowStrength() != settings.getShadowStrength().floatValue()) {
+            applyShadowStrength(textDisplay, settings);
+            reapplied++;
+        }
+        if (settings.getViewRange() != null && textDisplay.getViewRange() != settings.getViewRange()) {
+            applyViewRange(textDisplay, settings);
+            reapplied++;
+        }
+
+        org.bukkit.util.Transformation expected = getLineTransformation(line, rigged);
+        if (line.getMotion() == null && !expected.equals(textDisplay.getTransformation())) {
+            textDisplay.setTransformation(expected);
+            reapplied++;
+        }
+
+        return reapplied;
     }
 
     /**
@@ -184,11 +460,44 @@ public class TextDisplayManager {
         try {
             applyText(textDisplay, line);
             applyDisplaySettings(textDisplay, line.getDisplaySettings());
+            if (textDisplay.isInsideVehicle()) {
+                applyLineTransformation(textDisplay, line);
+            }
         } catch (Exception e) {
             Logger.severe("Failed to update TextDisplay entity", e);
         }
     }
 
+    /**
+     * Fully configure an existing TextDisplay for another line, e.g. when a page switch reuses it.
+     * Unlike {@link #updateTextDisplay}, optional properties the line leaves unset are reset to their
+     * defaults and the interpolation of a previous motion is cleared, so nothing carries over from
+     * the line the entity rendered before.
+     *
+     * @param textDisplay The entity to reuse
+     * @param baseLocation The base location of the hologram
+     * @param line The line the entity renders from now on
+     * @param persistent Whether the entity should be saved into chunk data
+     */
+    public static void reuseTextDisplay(TextDisplay textDisplay, Location baseLocation, Hologram.Line line, boolean persistent) {
+        textDisplay.setPersistent(persistent);
+        textDisplay.setInterpolationDelay(0);
+        textDisplay.setInterpolationDuration(0);
+
+        textDisplay.setBillboard(Display.Billboard.FIXED);
+        textDisplay.setBrightness(null);
+        textDisplay.setShadowRadius(DEFAULT_SHADOW_RADIUS);
+        textDisplay.setShadowStrength(DEFAULT_SHADOW_STRENGTH);
+        textDisplay.setViewRange(DEFAULT_VIEW_RANGE);
+
+        applyText(textDisplay, line);
+        applyDisplaySettings(textDisplay, line.getDisplaySettings());
+        applyLineTransformation(textDisplay, line);
+        if (!textDisplay.isInsideVehicle()) {
+            applyPosition(textDisplay, baseLocation, line);
+        }
+    }
+
     /**
      * Remove a TextDisplay entity
      */
@@ -0,0 +1,10 @@
+package org.oneyz.holoFX.holograms.leaderboards;
+
+/**
+ * A single row of a leaderboard. Leaderboard providers return these sorted from the first rank down.
+ *
+ * @param name The name shown in the row
+ * @param score The already formatted score
+ */
+public record LeaderboardEntry(String name, String score) {
+}
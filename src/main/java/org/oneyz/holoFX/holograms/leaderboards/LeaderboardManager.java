@@ -0,0 +1,180 @@
+package org.oneyz.holoFX.holograms.leaderboards;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.TextDisplay;
+import org.bukkit.scheduler.BukkitTask;
+import org.oneyz.holoFX.HoloFX;
+import org.oneyz.holoFX.holograms.displays.HologramDisplay;
+import org.oneyz.holoFX.holograms.displays.HologramDisplayManager;
+import org.oneyz.holoFX.holograms.providers.DataProviderManager;
+import org.oneyz.holoFX.loader.HologramLoader;
+import org.oneyz.holoFX.models.Hologram;
+import org.oneyz.holoFX.utils.Logger;
+
+import java.util.*;
+
+/**
+ * Keeps leaderboard holograms up to date with their providers.
+ * Providers are fetched off the main thread by the {@link DataProviderManager}, which hands all
+ * finished fetches over in one tick. For every leaderboard the last rendered rows are kept, so
+ * a refresh only rewrites the rows that actually changed and only updates the entities showing them.
+ */
+public class LeaderboardManager {
+
+    /**
+     * Ticks between two refresh requests; the provider's TTL decides whether a fetch really starts
+     */
+    private static final long REQUEST_INTERVAL_TICKS = 20L;
+
+    private final HoloFX plugin;
+    private final HologramDisplayManager displayManager;
+
+    /**
+     * Hologram name -> last rendered text of each row
+     */
+    private final Map<String, String[]> renderedRows = new HashMap<>();
+
+    /**
+     * Providers a listener was registered for
+     */
+    private final Set<String> listenedProviders = new HashSet<>();
+    private BukkitTask task;
+
+    public LeaderboardManager(HoloFX plugin, HologramDisplayManager displayManager) {
+        this.plugin = plugin;
+        this.displayManager = displayManager;
+    }
+
+    public void start() {
+        stop();
+        task = Bukkit.getScheduler().runTaskTimer(plugin, this::requestRefresh, REQUEST_INTERVAL_TICKS, REQUEST_INTERVAL_TICKS);
+    }
+
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    /**
+     * Track a spawned or changed leaderboard hologram and render the provider's cached rows, if any
+     */
+    public void index(HologramDisplay display) {
+        String hologramName = display.getHologramName();
+        Hologram.Leaderboard leaderboard = display.getHologramConfig().getLeaderboard();
+        if (leaderboard == null) {
+            renderedRows.remove(hologramName);
+            return;
+        }
+
+        DataProviderManager providers = plugin.getDataProviderManager();
+        if (providers.getProvider(leaderboard.getProvider()) == null) {
+            Logger.warning("Leaderboard hologram '" + hologramName + "' uses unknown provider '" + leaderboard.getProvider() + "'");
+        }
+        if (listenedProviders.add(leaderboard.getProvider())) {
+            providers.<List<LeaderboardEntry>>addListener(leaderboard.getProvider(),
+                    entries -> applyEntries(leaderboard.getProvider(), entries));
+        }
+
+        // Start from the texts the rows show right now, so unchanged rows are not rewritten
+        String[] rows = new String[leaderboard.getRows()];
+        List<Hologram.Line> lines = display.getHologramConfig().getLines();
+        int firstRow = getFirstRow(display);
+        for (int i = 0; i < rows.length && firstRow >= 0; i++) {
+            rows[i] = lines.get(firstRow + i).getTextAsString();
+        }
+        renderedRows.put(hologramName, rows);
+
+        List<LeaderboardEntry> cached = providers.getCached(leaderboard.getProvider());
+        if (cached != null) {
+            applyRows(display, cached);
+        }
+    }
+
+    public void unindex(String hologramName) {
+        renderedRows.remove(hologramName);
+    }
+
+    public void clear() {
+        renderedRows.clear();
+    }
+
+    /**
+     * Ask the providers of all tracked leaderboards for fresh data
+     */
+    private void requestRefresh() {
+        Set<String> requested = new HashSet<>();
+        for (String hologramName : renderedRows.keySet()) {
+            HologramDisplay display = displayManager.getHologram(hologramName);
+            if (display != null && display.getHologramConfig().getLeaderboard() != null
+                    && requested.add(display.getHologramConfig().getLeaderboard().getProvider())) {
+                plugin.getDataProviderManager().request(display.getHologramConfig().getLeaderboard().getProvider());
+            }
+        }
+    }
+
+    /**
+     * Render new provider data on every leaderboard bound to the provider
+     */
+    private void applyEntries(String provider, List<LeaderboardEntry> entries) {
+        if (entries == null) {
+            return;
+        }
+        for (String hologramName : new ArrayList<>(renderedRows.keySet())) {
+            HologramDisplay display = displayManager.getHologram(hologramName);
+            Hologram.Leaderboard leaderboard = display != null ? display.getHologramConfig().getLeaderboard() : null;
+            if (leaderboard != null && leaderboard.getProvider().equals(provider)) {
+                applyRows(display, entries);
+            }
+        }
+    }
+
+    /**
+     * Rewrite the rows whose text changed and update only the entities rendering them
+     */
+    private void applyRows(HologramDisplay display, List<LeaderboardEntry> entries) {
+        String[] rows = renderedRows.get(display.getHologramName());
+        int firstRow = getFirstRow(display);
+        if (rows == null || firstRow < 0) {
+            return;
+        }
+
+        Hologram.Leaderboard leaderboard = display.getHologramConfig().getLeaderboard();
+        List<Hologram.Line> lines = display.getHologramConfig().getLines();
+        Set<Integer> changedSlots = new LinkedHashSet<>();
+
+        for (int i = 0; i < rows.length; i++) {
+            LeaderboardEntry entry = i < entries.size() ? entries.get(i) : null;
+            String text = entry != null
+                    ? HologramLoader.formatLeaderboardRow(leaderboard.getFormat(), i + 1, entry.name(), entry.score())
+                    : HologramLoader.formatLeaderboardRow(leaderboard.getEmptyFormat(), i + 1, "", "");
+            if (text.equals(rows[i])) {
+                continue;
+            }
+
+            rows[i] = text;
+            lines.get(firstRow + i).setText(text);
+            changedSlots.add(display.getRenderPlan().getSlot(firstRow + i));
+        }
+
+        if (!display.isActive()) {
+            return;
+        }
+        for (int slot : changedSlots) {
+            TextDisplay entity = display.getDisplay(slot);
+            if (entity != null && entity.isValid()) {
+                entity.setText(display.getRenderLine(slot).getRenderedText());
+            }
+        }
+    }
+
+    /**
+     * Get the index of the first row line, or -1 if the rows are not shown (another page is)
+     */
+    private static int getFirstRow(HologramDisplay display) {
+        Hologram model = display.getHologramConfig();
+        int firstRow = model.getFirstLeaderboardRow();
+        return firstRow >= 0 && firstRow + model.getLeaderboard().getRows() <= model.getLines().size() ? firstRow : -1;
+    }
+}
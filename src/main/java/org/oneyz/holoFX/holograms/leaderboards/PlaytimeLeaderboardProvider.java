@@ -0,0 +1,56 @@
+package org.oneyz.holoFX.holograms.leaderboards;
+
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.Statistic;
+import org.oneyz.holoFX.interfaces.provider.DataProvider;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Players with the most play time. Reading the statistics of offline players loads their
+ * stats files, so this runs on a provider worker thread and is cached for five minutes.
+ */
+public class PlaytimeLeaderboardProvider implements DataProvider<List<LeaderboardEntry>> {
+
+    public static final String NAME = "top_playtime";
+    private static final int MAX_ENTRIES = 100;
+
+    private record Playtime(String name, int ticks) {
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public long getTtlMillis() {
+        return 300_000L;
+    }
+
+    @Override
+    public List<LeaderboardEntry> fetch() {
+        List<Playtime> playtimes = new ArrayList<>();
+        for (OfflinePlayer player : Bukkit.getOfflinePlayers()) {
+            if (player.getName() == null) {
+                continue;
+            }
+            try {
+                playtimes.add(new Playtime(player.getName(), player.getStatistic(Statistic.PLAY_ONE_MINUTE)));
+            } catch (Exception ignored) {
+                // No statistics saved for this player yet
+            }
+        }
+        playtimes.sort(Comparator.comparingInt(Playtime::ticks).reversed());
+
+        List<LeaderboardEntry> entries = new ArrayList<>();
+        for (int i = 0; i < playtimes.size() && i < MAX_ENTRIES; i++) {
+            Playtime playtime = playtimes.get(i);
+            entries.add(new LeaderboardEntry(playtime.name(), (playtime.ticks() / 72_000) + "h"));
+        }
+        return entries;
+    }
+}
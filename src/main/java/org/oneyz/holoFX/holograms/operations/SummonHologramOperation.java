@@ -1,6 +1,5 @@
 package org.oneyz.holoFX.holograms.operations;
 
-import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
 import org.oneyz.holoFX.HoloFX;
 import org.oneyz.holoFX.holograms.displays.HologramDisplay;
@@ -9,8 +8,6 @@ import org.oneyz.holoFX.models.Hologram;
 import org.oneyz.holoFX.utils.Logger;
 import org.oneyz.holoFX.utils.MessageManager;
 
-import java.io.File;
-import java.io.IOException;
 import java.util.*;
 
 public class SummonHologramOperation implements HologramOperation {
@@ -38,38 +35,28 @@ public class SummonHologramOperation implements HologramOperation {
         }
 
         try {
-            Hologram hologramConfig = display.getHologramConfig();
-            hologramConfig.getLocation().setWorld(player.getWorld().getName());
-            hologramConfig.getLocation().setX(player.getLocation().getX());
-            hologramConfig.getLocation().setY(player.getLocation().getY() + 1.5);
-            hologramConfig.getLocation().setZ(player.getLocation().getZ());
-            hologramConfig.getLocation().setYaw(player.getLocation().getYaw());
-
-            if (!saveHologramToFile(hologramConfig)) {
-                messageManager.sendMessage(player, "summon.summon_failed", Map.of("error", "Failed to save"));
+            Hologram.Location newLocation = Hologram.Location.builder()
+                    .world(player.getWorld().getName())
+                    .x(player.getLocation().getX())
+                    .y(player.getLocation().getY() + 1.5)
+                    .z(player.getLocation().getZ())
+                    .yaw(player.getLocation().getYaw())
+                    .build();
+
+            if (!plugin.getHologramDisplayManager().moveHologram(hologramName, newLocation)) {
+                messageManager.sendMessage(player, "summon.summon_failed", Map.of("error", "Failed to move"));
                 return false;
             }
 
-            plugin.getHologramDisplayManager().despawnHologram(hologramName);
-            plugin.getHologramLoader().reloadAll();
-
-            Hologram reloadedHologram = plugin.getHologramLoader().getAllHolograms().values().stream()
-                    .filter(h -> h.getName().equalsIgnoreCase(hologramName))
-                    .findFirst()
-                    .orElse(null);
-
-            if (reloadedHologram == null) {
-                messageManager.sendMessage(player, "summon.summon_failed", Map.of("error", "Failed to reload"));
-                return false;
-            }
+            plugin.getHologramLoader().saveHologramLocationAsync(hologramName, newLocation)
+                    .thenAccept(saved -> {
+                        if (!saved) {
+                            Logger.warning("Hologram '" + hologramName + "' was moved but its location could not be saved");
+                        }
+                    });
 
-            if (plugin.getHologramDisplayManager().spawnHologram(reloadedHologram)) {
-                messageManager.sendMessage(player, "summon.summoned", Map.of("name", hologramName));
-                return true;
-            } else {
-                messageManager.sendMessage(player, "summon.summon_failed", Map.of("error", "Failed to spawn"));
-                return false;
-            }
+            messageManager.sendMessage(player, "summon.summoned", Map.of("name", hologramName));
+            return true;
 
         } catch (Exception e) {
             messageManager.sendMessage(player, "summon.summon_failed", Map.of("error", e.getMessage()));
@@ -78,36 +65,4 @@ public class SummonHologramOperation implements HologramOperation {
         }
     }
 
-    /**
-     * Save the hologram configuration to file
-     */
-    private boolean saveHologramToFile(Hologram hologram) {
-        try {
-            File dataFolder = new File(plugin.getDataFolder(), "holograms");
-            File hologramFile = new File(dataFolder, hologramName + ".yml");
-
-            if (!hologramFile.exists()) {
-                messageManager.sendMessage(player, "summon.summon_failed", Map.of("error", "File not found"));
-                return false;
-            }
-
-            YamlConfiguration config = YamlConfiguration.loadConfiguration(hologramFile);
-
-            config.set("location.world", hologram.getLocation().getWorld());
-            config.set("location.x", hologram.getLocation().getX());
-            config.set("location.y", hologram.getLocation().getY());
-            config.set("location.z", hologram.getLocation().getZ());
-            config.set("location.yaw", hologram.getLocation().getYaw());
-
-            config.save(hologramFile);
-            return true;
-
-        } catch (IOException e) {
-            Logger.severe("Error saving hologram configuration: " + hologramName, e);
-            return false;
-        }
-    }
-
-
 }
-
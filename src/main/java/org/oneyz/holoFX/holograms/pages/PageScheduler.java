@@ -0,0 +1,202 @@
+package org.oneyz.holoFX.holograms.pages;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+import org.bukkit.util.Vector;
+import org.oneyz.holoFX.HoloFX;
+import org.oneyz.holoFX.holograms.displays.HologramDisplay;
+import org.oneyz.holoFX.holograms.displays.HologramDisplayManager;
+import org.oneyz.holoFX.holograms.displays.LineLayout;
+import org.oneyz.holoFX.models.Hologram;
+
+import java.util.*;
+
+/**
+ * Switches the pages of paged holograms on their timer or when a player clicks them.
+ * Timers live in a queue ordered by due tick, so a tick only looks at the head of the queue.
+ */
+public class PageScheduler {
+
+    /**
+     * Half the width of the area around a hologram that counts as a click on it, in blocks
+     */
+    private static final double CLICK_RADIUS = 1.0;
+    private static final double CLICK_DISTANCE = 8.0;
+
+    /**
+     * Minimum ticks between two click switches of the same hologram
+     */
+    private static final long CLICK_COOLDOWN_TICKS = 10L;
+
+    /**
+     * Next timed switch of a hologram; outdated when the hologram was indexed again since
+     */
+    private record Due(long tick, String hologramName, long generation) {
+    }
+
+    private final HoloFX plugin;
+    private final HologramDisplayManager displayManager;
+    private final PriorityQueue<Due> queue = new PriorityQueue<>(Comparator.comparingLong(Due::tick));
+
+    /**
+     * Hologram name -> generation of its current timer
+     */
+    private final Map<String, Long> generations = new HashMap<>();
+    private final Map<String, Long> lastClickTick = new HashMap<>();
+
+    private BukkitTask task;
+    private long currentTick;
+    private long generationCounter;
+
+    public PageScheduler(HoloFX plugin, HologramDisplayManager displayManager) {
+        this.plugin = plugin;
+        this.displayManager = displayManager;
+    }
+
+    public void start() {
+        stop();
+        task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+    }
+
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    /**
+     * Start the page timer of a spawned or changed hologram, if it is paged
+     */
+    public void index(HologramDisplay display) {
+        String hologramName = display.getHologramName();
+        unindex(hologramName);
+
+        if (!display.getHologramConfig().isPaged()) {
+            return;
+        }
+
+        long generation = ++generationCounter;
+        generations.put(hologramName, generation);
+        scheduleNext(hologramName, generation, display.getHologramConfig().getPaging());
+    }
+
+    /**
+     * Stop switching the pages of a hologram
+     */
+    public void unindex(String hologramName) {
+        generations.remove(hologramName);
+        lastClickTick.remove(hologramName);
+    }
+
+    public void clear() {
+        queue.clear();
+        generations.clear();
+        lastClickTick.clear();
+    }
+
+    /**
+     * Switch the page of the clickable hologram a player is looking at, if any
+     *
+     * @return true if a page was switched
+     */
+    public boolean handleClick(Player player) {
+        if (generations.isEmpty()) {
+            return false;
+        }
+
+        Location eye = player.getEyeLocation();
+        Vector direction = eye.getDirection();
+        for (String hologramName : new ArrayList<>(generations.keySet())) {
+            HologramDisplay display = displayManager.getHologram(hologramName);
+            if (display == null || !display.isActive() || !display.getHologramConfig().getPaging().isClickToSwitch()
+                    || !Objects.equals(display.getBaseLocation().getWorld(), eye.getWorld())
+                    || !isLookingAt(eye, direction, display)) {
+                continue;
+            }
+
+            Long lastClick = lastClickTick.get(hologramName);
+            if (lastClick != null && currentTick - lastClick < CLICK_COOLDOWN_TICKS) {
+                return false;
+            }
+            lastClickTick.put(hologramName, currentTick);
+            nextPage(display);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Check if the eye ray passes through the column of a hologram, within its lines' height
+     */
+    private static boolean isLookingAt(Location eye, Vector direction, HologramDisplay display) {
+        Location base = display.getBaseLocation();
+        double horizontal = direction.getX() * direction.getX() + direction.getZ() * direction.getZ();
+        if (horizontal < 1.0E-6) {
+            return false;
+        }
+
+        // Point of the ray closest to the hologram's vertical axis
+        double t = ((base.getX() - eye.getX()) * direction.getX() + (base.getZ() - eye.getZ()) * direction.getZ()) / horizontal;
+        if (t < 0 || t > CLICK_DISTANCE) {
+            return false;
+        }
+        double dx = eye.getX() + direction.getX() * t - base.getX();
+        double dz = eye.getZ() + direction.getZ() * t - base.getZ();
+        if (dx * dx + dz * dz > CLICK_RADIUS * CLICK_RADIUS) {
+            return false;
+        }
+
+        double minY = Double.MAX_VALUE;
+        double maxY = -Double.MAX_VALUE;
+        for (Hologram.Line line : display.getHologramConfig().getLines()) {
+            minY = Math.min(minY, line.getOffset().getY());
+            maxY = Math.max(maxY, line.getOffset().getY() + LineLayout.getLineHeight(line));
+        }
+        double y = eye.getY() + direction.getY() * t - base.getY();
+        return y >= minY && y <= maxY;
+    }
+
+    /**
+     * Switch every hologram whose timer is due
+     */
+    private void tick() {
+        currentTick++;
+        while (!queue.isEmpty() && queue.peek().tick() <= currentTick) {
+            Due due = queue.poll();
+            Long generation = generations.get(due.hologramName());
+            if (generation == null || generation != due.generation()) {
+                continue;
+            }
+
+            HologramDisplay display = displayManager.getHologram(due.hologramName());
+            if (display == null || !display.getHologramConfig().isPaged()) {
+                unindex(due.hologramName());
+                continue;
+            }
+            nextPage(display);
+        }
+    }
+
+    /**
+     * Show the page after the current one and restart the timer, so a click never
+     * gets overridden by a timed switch right after it
+     */
+    private void nextPage(HologramDisplay display) {
+        Hologram.Paging paging = display.getHologramConfig().getPaging();
+        int next = (paging.getCurrentPage() + 1) % paging.getPages().size();
+        displayManager.showPage(display.getHologramName(), next);
+
+        long generation = ++generationCounter;
+        generations.put(display.getHologramName(), generation);
+        scheduleNext(display.getHologramName(), generation, paging);
+    }
+
+    private void scheduleNext(String hologramName, long generation, Hologram.Paging paging) {
+        if (paging.getIntervalTicks() > 0) {
+            queue.add(new Due(currentTick + paging.getIntervalTicks(), hologramName, generation));
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package org.oneyz.holoFX.holograms.placeholders;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.TextDisplay;
+import org.bukkit.scheduler.BukkitTask;
+import org.oneyz.holoFX.HoloFX;
+import org.oneyz.holoFX.holograms.displays.HologramDisplay;
+import org.oneyz.holoFX.holograms.displays.HologramDisplayManager;
+import org.oneyz.holoFX.interfaces.placeholder.Placeholder;
+import org.oneyz.holoFX.models.Hologram;
+import org.oneyz.holoFX.utils.Logger;
+
+import java.util.*;
+
+/**
+ * Refreshes placeholder values on their own intervals and re-renders only the lines that use a changed value.
+ * A dependency index maps every placeholder to the lines using it; setText is only called when the
+ * rendered string of a line actually changed.
+ */
+public class PlaceholderRefresher {
+
+    /**
+     * A line of an active hologram
+     */
+    private record LineRef(String hologramName, int lineIndex) {
+    }
+
+    private final HoloFX plugin;
+    private final HologramDisplayManager displayManager;
+    private BukkitTask task;
+    private long currentTick;
+
+    /**
+     * Placeholder name -> lines that use it
+     */
+    private final Map<String, Set<LineRef>> dependents = new HashMap<>();
+
+    /**
+     * Hologram name -> lines of it that contain placeholders
+     */
+    private final Map<String, List<LineRef>> hologramLines = new HashMap<>();
+
+    /**
+     * Placeholder name -> tick of its next refresh
+     */
+    private final Map<String, Long> nextRefresh = new HashMap<>();
+
+    /**
+     * Last text sent to the entity of each line
+     */
+    private final Map<LineRef, String> lastSent = new HashMap<>();
+
+    public PlaceholderRefresher(HoloFX plugin, HologramDisplayManager displayManager) {
+        this.plugin = plugin;
+        this.displayManager = displayManager;
+    }
+
+    public void start() {
+        stop();
+        task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+    }
+
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    /**
+     * Index the placeholder lines of a spawned or changed hologram and render them with the current values.
+     * Placeholders that were never resolved are resolved right away, so new lines never show raw tokens.
+     * Animated lines are skipped, their text is owned by the animation scheduler.
+     */
+    public void index(HologramDisplay display) {
+        String hologramName = display.getHologramName();
+        unindex(hologramName);
+
+        List<Hologram.Line> lines = display.getHologramConfig().getLines();
+        List<LineRef> refs = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            PlaceholderTemplate template = lines.get(i).getTemplate();
+            if (template.isStatic() || lines.get(i).getAnimation() != null) {
+                continue;
+            }
+
+            LineRef ref = new LineRef(hologramName, i);
+            refs.add(ref);
+            for (String name : template.getPlaceholderNames()) {
+                dependents.computeIfAbsent(name, key -> new HashSet<>()).add(ref);
+                if (PlaceholderRegistry.getValue(name) == null) {
+                    refresh(name);
+                }
+            }
+        }
+
+        if (!refs.isEmpty()) {
+            hologramLines.put(hologramName, refs);
+            apply(refs);
+        }
+    }
+
+    /**
+     * Remove a hologram from the dependency index
+     */
+    public void unindex(String hologramName) {
+        List<LineRef> refs = hologramLines.remove(hologramName);
+        if (refs == null) {
+            return;
+        }
+
+        for (LineRef ref : refs) {
+            lastSent.remove(ref);
+        }
+        Iterator<Map.Entry<String, Set<LineRef>>> iterator = dependents.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Set<LineRef>> entry = iterator.next();
+            entry.getValue().removeAll(refs);
+            if (entry.getValue().isEmpty()) {
+                nextRefresh.remove(entry.getKey());
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Clear the whole index, e.g. when all holograms are despawned
+     */
+    public void clear() {
+        dependents.clear();
+        hologramLines.clear();
+        nextRefresh.clear();
+        lastSent.clear();
+    }
+
+    /**
+     * Re-render the lines using a placeholder whose value was changed outside of the refresh cycle
+     */
+    public void valueChanged(String name) {
+        Set<LineRef> refs = dependents.get(name);
+        if (refs != null && !refs.isEmpty()) {
+            apply(refs);
+        }
+    }
+
+    /**
+     * Refresh the placeholders that are due and re-render the lines whose values changed
+     */
+    private void tick() {
+        currentTick++;
+        if (dependents.isEmpty()) {
+            return;
+        }
+
+        Set<LineRef> dirty = new LinkedHashSet<>();
+        for (Map.Entry<String, Set<LineRef>> entry : dependents.entrySet()) {
+            Long due = nextRefresh.get(entry.getKey());
+            if (due != null && due > currentTick) {
+                continue;
+            }
+            if (refresh(entry.getKey())) {
+                dirty.addAll(entry.getValue());
+            }
+        }
+
+        if (!dirty.isEmpty()) {
+            apply(dirty);
+        }
+    }
+
+    /**
+     * Resolve a placeholder and schedule its next refresh
+     *
+     * @return true if its value changed
+     */
+    private boolean refresh(String name) {
+        Placeholder placeholder = PlaceholderRegistry.get(name);
+        if (placeholder == null) {
+            nextRefresh.put(name, currentTick + 20L);
+            return false;
+        }
+
+        nextRefresh.put(name, currentTick + Math.max(1L, placeholder.getRefreshTicks()));
+        try {
+            return PlaceholderRegistry.setValue(name, placeholder.resolve());
+        } catch (Exception e) {
+            Logger.warning("Failed to resolve placeholder {" + name + "}: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Send the rendered text of the given lines to their entities, skipping lines whose text did not change
+     */
+    private void apply(Collection<LineRef> refs) {
+        for (LineRef ref : refs) {
+            HologramDisplay display = displayManager.getHologram(ref.hologramName());
+            if (display == null || !display.isActive()
+                    || ref.lineIndex() >= display.getHologramConfig().getLines().size()) {
+                continue;
+            }
+
+            TextDisplay entity = display.getDisplay(ref.lineIndex());
+            if (entity == null || !entity.isValid()) {
+                lastSent.remove(ref);
+                continue;
+            }
+
+            String rendered = display.getHologramConfig().getLines().get(ref.lineIndex()).getRenderedText();
+            if (!rendered.equals(lastSent.get(ref))) {
+                entity.setText(rendered);
+                lastSent.put(ref, rendered);
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package org.oneyz.holoFX.holograms.placeholders;
+
+import org.bukkit.Bukkit;
+import org.oneyz.holoFX.interfaces.placeholder.Placeholder;
+import org.oneyz.holoFX.utils.Logger;
+
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Registry of placeholders and their last resolved values.
+ * Other plugins register their own placeholders here; values are refreshed by the {@link PlaceholderRefresher}.
+ */
+public final class PlaceholderRegistry {
+
+    private static final Map<String, Placeholder> PLACEHOLDERS = new ConcurrentHashMap<>();
+    private static final Map<String, String> VALUES = new ConcurrentHashMap<>();
+
+    /**
+     * Incremented whenever any value changes, so cached renders can tell they are stale
+     */
+    private static final AtomicLong VERSION = new AtomicLong();
+
+    static {
+        register(simple("online", 20L, () -> String.valueOf(Bukkit.getOnlinePlayers().size())));
+        register(simple("max_players", 200L, () -> String.valueOf(Bukkit.getMaxPlayers())));
+        DateTimeFormatter timeFormat = DateTimeFormatter.ofPattern("HH:mm:ss");
+        register(simple("time", 20L, () -> LocalTime.now().format(timeFormat)));
+    }
+
+    private PlaceholderRegistry() {
+    }
+
+    /**
+     * Register a placeholder, replacing any placeholder with the same name
+     */
+    public static void register(Placeholder placeholder) {
+        String name = placeholder.getName().toLowerCase();
+        if (PLACEHOLDERS.put(name, placeholder) != null) {
+            Logger.fine("Replaced placeholder {" + name + "}");
+        }
+    }
+
+    /**
+     * Unregister a placeholder and drop its value
+     */
+    public static void unregister(String name) {
+        PLACEHOLDERS.remove(name.toLowerCase());
+        if (VALUES.remove(name.toLowerCase()) != null) {
+            VERSION.incrementAndGet();
+        }
+    }
+
+    public static Placeholder get(String name) {
+        return PLACEHOLDERS.get(name);
+    }
+
+    public static Collection<Placeholder> getAll() {
+        return Collections.unmodifiableCollection(PLACEHOLDERS.values());
+    }
+
+    /**
+     * Get the last resolved value of a placeholder, or null if it was never resolved
+     */
+    public static String getValue(String name) {
+        return VALUES.get(name);
+    }
+
+    /**
+     * Store a resolved value
+     *
+     * @return true if the value differs from the previous one
+     */
+    public static boolean setValue(String name, String value) {
+        if (value == null) {
+            return false;
+        }
+        String previous = VALUES.put(name, value);
+        if (value.equals(previous)) {
+            return false;
+        }
+        VERSION.incrementAndGet();
+        return true;
+    }
+
+    public static long getVersion() {
+        return VERSION.get();
+    }
+
+    /**
+     * Create a placeholder from a value supplier
+     */
+    public static Placeholder simple(String name, long refreshTicks, Supplier<String> supplier) {
+        return new Placeholder() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public long getRefreshTicks() {
+                return refreshTicks;
+            }
+
+            @Override
+            public String resolve() {
+                return supplier.get();
+            }
+        };
+    }
+}
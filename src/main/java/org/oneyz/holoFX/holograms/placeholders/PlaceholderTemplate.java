@@ -0,0 +1,100 @@
+package org.oneyz.holoFX.holograms.placeholders;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Hologram text compiled into literal and placeholder segments, so rendering only
+ * concatenates the current values instead of searching the text again
+ */
+public final class PlaceholderTemplate {
+
+    private static final PlaceholderTemplate EMPTY = new PlaceholderTemplate(new String[]{""}, new String[0]);
+
+    private final String[] literals; // literals[i] comes before names[i], the last literal closes the text
+    private final String[] names;
+
+    private PlaceholderTemplate(String[] literals, String[] names) {
+        this.literals = literals;
+        this.names = names;
+    }
+
+    /**
+     * Compile a text, treating every {name} token as a placeholder
+     */
+    public static PlaceholderTemplate compile(String text) {
+        if (text == null || text.isEmpty()) {
+            return EMPTY;
+        }
+
+        List<String> literals = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        int literalStart = 0;
+        int i = 0;
+
+        while (i < text.length()) {
+            int open = text.indexOf('{', i);
+            if (open < 0) {
+                break;
+            }
+            int close = open + 1;
+            while (close < text.length() && isNameChar(text.charAt(close))) {
+                close++;
+            }
+            if (close < text.length() && text.charAt(close) == '}' && close > open + 1) {
+                literals.add(text.substring(literalStart, open));
+                names.add(text.substring(open + 1, close));
+                literalStart = close + 1;
+                i = close + 1;
+            } else {
+                i = open + 1;
+            }
+        }
+
+        if (names.isEmpty()) {
+            return new PlaceholderTemplate(new String[]{text}, new String[0]);
+        }
+        literals.add(text.substring(literalStart));
+        return new PlaceholderTemplate(literals.toArray(new String[0]), names.toArray(new String[0]));
+    }
+
+    private static boolean isNameChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    /**
+     * Check if the text has no placeholders
+     */
+    public boolean isStatic() {
+        return names.length == 0;
+    }
+
+    /**
+     * Get the names of the placeholders used, in order of appearance
+     */
+    public List<String> getPlaceholderNames() {
+        return names.length == 0 ? Collections.emptyList() : List.of(names);
+    }
+
+    /**
+     * Render the text with the current placeholder values. Placeholders without a value are kept as written.
+     */
+    public String render() {
+        if (names.length == 0) {
+            return literals[0];
+        }
+
+        StringBuilder out = new StringBuilder();
+        for (int i = 0; i < names.length; i++) {
+            out.append(literals[i]);
+            String value = PlaceholderRegistry.getValue(names[i]);
+            if (value != null) {
+                out.append(value);
+            } else {
+                out.append('{').append(names[i]).append('}');
+            }
+        }
+        return out.append(literals[names.length]).toString();
+    }
+}
@@ -0,0 +1,274 @@
+package org.oneyz.holoFX.holograms.properties;
+
+import org.oneyz.holoFX.holograms.displays.TextDisplayManager;
+import org.oneyz.holoFX.models.Hologram;
+
+import java.util.*;
+import java.util.function.BiFunction;
+
+/**
+ * Registry of all editable line properties.
+ * Each property maps to exactly one model field and one TextDisplay setter,
+ * so edits can be applied in place without respawning the hologram.
+ */
+public final class HologramProperties {
+
+    private static final Map<String, HologramProperty<?>> PROPERTIES = new LinkedHashMap<>();
+
+    public static final HologramProperty<Integer> TEXT_OPACITY = register(HologramProperty.<Integer>builder()
+            .key("text_opacity")
+            .parser(Integer::parseInt)
+            .validator(value -> value >= 0 && value <= 255)
+            .modelSetter(settings((builder, value) -> builder.textOpacity(value)))
+            .displaySetter((display, base, line) -> TextDisplayManager.applyTextOpacity(display, line.getDisplaySettings()))
+            .build());
+
+    public static final HologramProperty<Integer> LINE_WIDTH = register(HologramProperty.<Integer>builder()
+            .key("line_width")
+            .parser(Integer::parseInt)
+            .validator(value -> value > 0)
+            .modelSetter(settings((builder, value) -> builder.lineWidth(value)))
+            .displaySetter((display, base, line) -> TextDisplayManager.applyLineWidth(display, line.getDisplaySettings()))
+            .build());
+
+    public static final HologramProperty<String> TEXT_ALIGNMENT = register(HologramProperty.<String>builder()
+            .key("text_alignment")
+            .parser(String::toUpperCase)
+            .validator(value -> value.equals("LEFT") || value.equals("CENTER") || value.equals("RIGHT"))
+            .modelSetter(settings((builder, value) -> builder.textAlignment(value)))
+            .displaySetter((display, base, line) -> TextDisplayManager.applyAlignment(display, line.getDisplaySettings()))
+            .build());
+
+    public static final HologramProperty<Hologram.Billboard> BILLBOARD = register(HologramProperty.<Hologram.Billboard>builder()
+            .key("billboard")
+            .parser(value -> Hologram.Billboard.valueOf(value.toUpperCase()))
+            .modelSetter(settings((builder, value) -> builder.billboard(value)))
+            .displaySetter((display, base, line) -> TextDisplayManager.applyBillboard(display, line.getDisplaySettings()))
+            .build());
+
+    public static final HologramProperty<String> BACKGROUND = register(HologramProperty.<String>builder()
+            .key("background")
+            .parser(HologramProperties::parseArgbHex)
+            .modelSetter(settings((builder, value) -> builder.background(value).defaultBackground(false)))
+            .displaySetter((display, base, line) -> TextDisplayManager.applyBackground(display, line.getDisplaySettings()))
+            .build());
+
+    public static final HologramProperty<Boolean> DEFAULT_BACKGROUND = register(HologramProperty.<Boolean>builder()
+            .key("default_background")
+            .parser(HologramProperties::parseBoolean)
+            .modelSetter(settings((builder, value) -> builder.defaultBackground(value)))
+            .displaySetter((display, base, line) -> TextDisplayManager.applyBackground(display, line.getDisplaySettings()))
+            .build());
+
+    public static final HologramProperty<Boolean> SEE_THROUGH = register(HologramProperty.<Boolean>builder()
+            .key("see_through")
+            .parser(HologramProperties::parseBoolean)
+            .modelSetter(settings((builder, value) -> builder.seeThrough(value)))
+            .displaySetter((display, base, line) -> TextDisplayManager.applySeeThrough(display, line.getDisplaySettings()))
+            .build());
+
+    public static final HologramProperty<Boolean> SHADOW = register(HologramProperty.<Boolean>builder()
+            .key("shadow")
+            .parser(HologramProperties::parseBoolean)
+            .modelSetter(settings((builder, value) -> builder.shadow(value)))
+            .displaySetter((display, base, line) -> TextDisplayManager.applyShadow(display, line.getDisplaySettings()))
+            .build());
+
+    public static final HologramProperty<String> PERMISSION = register(HologramProperty.<String>builder()
+            .key("permission")
+            .parser(value -> value)
+            .validator(value -> !value.isEmpty())
+            .modelSetter(settings((builder, value) -> builder.permission(value)))
+            .affectsVisibility(true)
+            .build());
+
+    public static final HologramProperty<Integer> BRIGHTNESS_SKY = register(HologramProperty.<Integer>builder()
+            .key("brightness_sky")
+            .parser(Integer::parseInt)
+            .validator(value -> value >= 0 && value <= 15)
+            .modelSetter((line, value) -> withBrightness(line, value, null))
+            .displaySetter((display, base, line) -> TextDisplayManager.applyBrightness(display, line.getDisplaySettings()))
+            .build());
+
+    public static final HologramProperty<Integer> BRIGHTNESS_BLOCK = register(HologramProperty.<Integer>builder()
+            .key("brightness_block")
+            .parser(Integer::parseInt)
+            .validator(value -> value >= 0 && value <= 15)
+            .modelSetter((line, value) -> withBrightness(line, null, value))
+            .displaySetter((display, base, line) -> TextDisplayManager.applyBrightness(display, line.getDisplaySettings()))
+            .build());
+
+    public static final HologramProperty<Double> SHADOW_RADIUS = register(HologramProperty.<Double>builder()
+            .key("shadow_radius")
+            .parser(Double::parseDouble)
+            .validator(value -> value >= 0)
+            .modelSetter(settings((builder, value) -> builder.shadowRadius(value)))
+            .displaySetter((display, base, line) -> TextDisplayManager.applyShadowRadius(display, line.getDisplaySettings()))
+            .build());
+
+    public static final HologramProperty<Double> SHADOW_STRENGTH = register(HologramProperty.<Double>builder()
+            .key("shadow_strength")
+            .parser(Double::parseDouble)
+            .validator(value -> value >= 0 && value <= 1.0)
+            .modelSetter(settings((builder, value) -> builder.shadowStrength(value)))
+            .displaySetter((display, base, line) -> TextDisplayManager.applyShadowStrength(display, line.getDisplaySettings()))
+            .build());
+
+    public static final HologramProperty<Float> VIEW_RANGE = register(HologramProperty.<Float>builder()
+            .key("view_range")
+            .parser(Float::parseFloat)
+            .validator(value -> value > 0)
+            .modelSetter(settings((builder, value) -> builder.viewRange(value)))
+            .displaySetter((display, base, line) -> TextDisplayManager.applyViewRange(display, line.getDisplaySettings()))
+            .build());
+
+    public static final HologramProperty<List<Float>> SCALE = register(HologramProperty.<List<Float>>builder()
+            .key("scale")
+            .parser(value -> parseFloatList(value, 3))
+            .modelSetter(settings((builder, value) -> builder.scale(value)))
+            .displaySetter((display, base, line) -> TextDisplayManager.applyLineTransformation(display, line))
+            .build());
+
+    public static final HologramProperty<List<Float>> LEFT_ROTATION = register(HologramProperty.<List<Float>>builder()
+            .key("left_rotation")
+            .parser(value -> parseFloatList(value, 4))
+            .modelSetter(settings((builder, value) -> builder.leftRotationQuaternion(value)))
+            .displaySetter((display, base, line) -> TextDisplayManager.applyLineTransformation(display, line))
+            .build());
+
+    public static final HologramProperty<List<Float>> RIGHT_ROTATION = register(HologramProperty.<List<Float>>builder()
+            .key("right_rotation")
+            .parser(value -> parseFloatList(value, 4))
+            .modelSetter(settings((builder, value) -> builder.rightRotationQuaternion(value)))
+            .displaySetter((display, base, line) -> TextDisplayManager.applyLineTransformation(display, line))
+            .build());
+
+    public static final HologramProperty<Double> OFFSET_X = register(HologramProperty.<Double>builder()
+            .key("offset_x")
+            .parser(Double::parseDouble)
+            .modelSetter(offset((builder, value) -> builder.x(value)))
+            .displaySetter(TextDisplayManager::applyPosition)
+            .build());
+
+    public static final HologramProperty<Double> OFFSET_Y = register(HologramProperty.<Double>builder()
+            .key("offset_y")
+            .parser(Double::parseDouble)
+            .modelSetter(offset((builder, value) -> builder.y(value)))
+            .displaySetter(TextDisplayManager::applyPosition)
+            .build());
+
+    public static final HologramProperty<Double> OFFSET_Z = register(HologramProperty.<Double>builder()
+            .key("offset_z")
+            .parser(Double::parseDouble)
+            .modelSetter(offset((builder, value) -> builder.z(value)))
+            .displaySetter(TextDisplayManager::applyPosition)
+            .build());
+
+    private HologramProperties() {
+    }
+
+    /**
+     * Get a registered property by its key
+     *
+     * @param key The property key (same as the YAML key, e.g. "text_opacity")
+     * @return The property, or null if no property is registered under this key
+     */
+    public static HologramProperty<?> get(String key) {
+        return key != null ? PROPERTIES.get(key.toLowerCase()) : null;
+    }
+
+    /**
+     * Get all registered properties in registration order
+     */
+    public static Collection<HologramProperty<?>> getAll() {
+        return Collections.unmodifiableCollection(PROPERTIES.values());
+    }
+
+    private static <T> HologramProperty<T> register(HologramProperty<T> property) {
+        PROPERTIES.put(property.getKey(), property);
+        return property;
+    }
+
+    /**
+     * Model setter that copies the line's display settings and changes one field
+     */
+    private static <T> BiFunction<Hologram.Line, T, Hologram.Line> settings(
+            BiFunction<Hologram.DisplaySettings.DisplaySettingsBuilder, T, Hologram.DisplaySettings.DisplaySettingsBuilder> setter) {
+        return (line, value) -> line.toBuilder()
+                .displaySettings(setter.apply(line.getDisplaySettings().toBuilder(), value).build())
+                .build();
+    }
+
+    /**
+     * Model setter that copies the line's offset and changes one axis
+     */
+    private static <T> BiFunction<Hologram.Line, T, Hologram.Line> offset(
+            BiFunction<Hologram.Offset.OffsetBuilder, T, Hologram.Offset.OffsetBuilder> setter) {
+        return (line, value) -> line.toBuilder()
+                .offset(setter.apply(line.getOffset().toBuilder(), value).build())
+                .build();
+    }
+
+    /**
+     * Replace the sky and/or block component of the packed (sky << 4) | block brightness value
+     */
+    private static Hologram.Line withBrightness(Hologram.Line line, Integer sky, Integer block) {
+        Hologram.DisplaySettings settings = line.getDisplaySettings();
+        int currentSky = 0;
+        int currentBlock = 0;
+
+        if (settings.getBrightness() != null) {
+            currentSky = (settings.getBrightness() >> 4) & 0x0F;
+            currentBlock = settings.getBrightness() & 0x0F;
+        }
+
+        int newSky = sky != null ? sky : currentSky;
+        int newBlock = block != null ? block : currentBlock;
+
+        return line.toBuilder()
+                .displaySettings(settings.toBuilder().brightness((newSky << 4) | newBlock).build())
+                .build();
+    }
+
+    /**
+     * Parse true/false, 1/0 or yes/no
+     */
+    private static Boolean parseBoolean(String value) {
+        return switch (value.toLowerCase()) {
+            case "true", "1", "yes" -> true;
+            case "false", "0", "no" -> false;
+            default -> null;
+        };
+    }
+
+    /**
+     * Parse an ARGB hex color (with or without 0x prefix) into its 0xAARRGGBB form
+     */
+    private static String parseArgbHex(String value) {
+        String cleaned = value.toLowerCase();
+        if (cleaned.startsWith("0x")) {
+            cleaned = cleaned.substring(2);
+        }
+        return cleaned.matches("[0-9a-f]{8}") ? "0x" + cleaned : null;
+    }
+
+    /**
+     * Parse a bracketed float list like [x,y,z] with an exact number of components
+     */
+    private static List<Float> parseFloatList(String value, int size) {
+        if (!value.startsWith("[") || !value.endsWith("]")) {
+            return null;
+        }
+
+        String[] parts = value.substring(1, value.length() - 1).split(",");
+        if (parts.length != size) {
+            return null;
+        }
+
+        List<Float> values = new ArrayList<>();
+        for (String part : parts) {
+            values.add(Float.parseFloat(part.trim()));
+        }
+        return values;
+    }
+}
@@ -0,0 +1,78 @@
+package org.oneyz.holoFX.holograms.properties;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.bukkit.Location;
+import org.bukkit.entity.TextDisplay;
+import org.oneyz.holoFX.models.Hologram;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Describes a single editable line property: how it is parsed from command input,
+ * validated, written into the line model and applied to a live TextDisplay entity
+ *
+ * @param <T> The value type of the property
+ */
+@Getter
+@Builder
+public class HologramProperty<T> {
+
+    /**
+     * Applies the property value stored in a line to a live TextDisplay entity
+     */
+    @FunctionalInterface
+    public interface DisplaySetter {
+        void apply(TextDisplay display, Location baseLocation, Hologram.Line line);
+    }
+
+    private final String key;
+    private final Function<String, T> parser;
+    @Builder.Default
+    private final Predicate<T> validator = value -> true;
+    private final BiFunction<Hologram.Line, T, Hologram.Line> modelSetter;
+    @Builder.Default
+    private final DisplaySetter displaySetter = (display, baseLocation, line) -> { };
+    private final boolean affectsVisibility;
+
+    /**
+     * Parse a raw command argument
+     *
+     * @param input The raw argument
+     * @return The parsed value, or null if the input could not be parsed
+     */
+    public T parse(String input) {
+        if (input == null) {
+            return null;
+        }
+        try {
+            return parser.apply(input.trim());
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Check if a parsed value is within the allowed range of this property
+     */
+    public boolean isValid(T value) {
+        return value != null && validator.test(value);
+    }
+
+    /**
+     * Create a copy of the line with this property set to the given value.
+     * The original line and its settings are never mutated, since lines may share settings instances.
+     */
+    public Hologram.Line applyToModel(Hologram.Line line, T value) {
+        return modelSetter.apply(line, value);
+    }
+
+    /**
+     * Apply the value stored in the line to a live TextDisplay entity
+     */
+    public void applyToDisplay(TextDisplay display, Location baseLocation, Hologram.Line line) {
+        displaySetter.apply(display, baseLocation, line);
+    }
+}
@@ -0,0 +1,253 @@
+package org.oneyz.holoFX.holograms.providers;
+
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+import org.oneyz.holoFX.HoloFX;
+import org.oneyz.holoFX.holograms.placeholders.PlaceholderRegistry;
+import org.oneyz.holoFX.interfaces.placeholder.Placeholder;
+import org.oneyz.holoFX.interfaces.provider.DataProvider;
+import org.oneyz.holoFX.utils.Logger;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Polls data providers on a worker pool and hands their results to the main thread.
+ * Values are cached for the provider's TTL; an expired value keeps being served while a single
+ * fetch revalidates it (stale-while-revalidate), and concurrent requests never start a second fetch.
+ * Finished fetches are queued and applied together once per tick.
+ */
+public class DataProviderManager {
+
+    /**
+     * Result of a fetch, passed from a worker thread to the main thread
+     */
+    private record FetchResult(String providerName, Object value, Exception error) {
+    }
+
+    /**
+     * Cached value of a provider, main thread only
+     */
+    private static class CachedValue {
+        private Object value;
+        private long expiresAt;
+    }
+
+    private final HoloFX plugin;
+    private final ExecutorService workers;
+
+    private final Map<String, DataProvider<?>> providers = new ConcurrentHashMap<>();
+
+    // Main thread state
+    private final Map<String, CachedValue> cache = new HashMap<>();
+    private final Set<String> inFlight = new HashSet<>();
+    private final Map<String, List<Consumer<Object>>> listeners = new HashMap<>();
+
+    /**
+     * Results of finished fetches, drained on the main thread
+     */
+    private final Queue<FetchResult> completed = new ConcurrentLinkedQueue<>();
+    private BukkitTask task;
+
+    public DataProviderManager(HoloFX plugin, int workerThreads) {
+        this.plugin = plugin;
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerThreads, runnable -> {
+            Thread thread = new Thread(runnable, "HoloFX-Provider-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void start() {
+        stop();
+        task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+    }
+
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    /**
+     * Stop polling and the worker threads; fetches in progress are interrupted
+     */
+    public void shutdown() {
+        stop();
+        workers.shutdownNow();
+        completed.clear();
+        inFlight.clear();
+    }
+
+    /**
+     * Register a provider, replacing any provider with the same name
+     */
+    public void register(DataProvider<?> provider) {
+        String name = provider.getName().toLowerCase();
+        if (providers.put(name, provider) != null) {
+            cache.remove(name);
+            Logger.fine("Replaced data provider '" + name + "'");
+        }
+    }
+
+    /**
+     * Unregister a provider and drop its cached value and listeners
+     */
+    public void unregister(String name) {
+        String key = name.toLowerCase();
+        providers.remove(key);
+        cache.remove(key);
+        listeners.remove(key);
+    }
+
+    public DataProvider<?> getProvider(String name) {
+        return providers.get(name.toLowerCase());
+    }
+
+    /**
+     * Get the cached value of a provider without blocking. If the value is missing or expired
+     * a fetch is started and the stale value (or null) is returned until it finishes.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getCached(String name) {
+        String key = name.toLowerCase();
+        request(key);
+        CachedValue cached = cache.get(key);
+        return cached != null ? (T) cached.value : null;
+    }
+
+    /**
+     * Start a fetch if the provider's value is missing or expired and no fetch is already running
+     *
+     * @return true if a fetch was started
+     */
+    public boolean request(String name) {
+        String key = name.toLowerCase();
+        DataProvider<?> provider = providers.get(key);
+        if (provider == null || inFlight.contains(key)) {
+            return false;
+        }
+
+        CachedValue cached = cache.get(key);
+        if (cached != null && System.currentTimeMillis() < cached.expiresAt) {
+            return false;
+        }
+
+        inFlight.add(key);
+        try {
+            workers.execute(() -> fetch(key, provider));
+        } catch (Exception e) {
+            inFlight.remove(key);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Call a listener on the main thread every time a fetch of the provider finishes.
+     * Listening does not start fetches by itself; use {@link #getCached} or {@link #request} for that.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void addListener(String name, Consumer<T> listener) {
+        listeners.computeIfAbsent(name.toLowerCase(), key -> new ArrayList<>()).add((Consumer<Object>) listener);
+    }
+
+    /**
+     * Expose a provider as a placeholder. The placeholder serves the cached value, and its lines are
+     * re-rendered as soon as a fetch returns a different value instead of waiting for the next poll.
+     *
+     * @param placeholderName Name used in hologram text
+     * @param providerName    Name of the provider
+     * @param formatter       Turns the provider's data into the text to show
+     */
+    public <T> void registerPlaceholder(String placeholderName, String providerName, Function<T, String> formatter) {
+        String placeholderKey = placeholderName.toLowerCase();
+        DataProvider<?> provider = getProvider(providerName);
+        long pollTicks = provider != null ? Math.max(20L, provider.getTtlMillis() / 50L) : 20L;
+
+        PlaceholderRegistry.register(new Placeholder() {
+            @Override
+            public String getName() {
+                return placeholderKey;
+            }
+
+            @Override
+            public long getRefreshTicks() {
+                return pollTicks;
+            }
+
+            @Override
+            public String resolve() {
+                T value = getCached(providerName);
+                return value != null ? formatter.apply(value) : "...";
+            }
+        });
+
+        this.<T>addListener(providerName, value -> {
+            if (value == null || !PlaceholderRegistry.setValue(placeholderKey, formatter.apply(value))) {
+                return;
+            }
+            if (plugin.getHologramDisplayManager() != null) {
+                plugin.getHologramDisplayManager().getPlaceholderRefresher().valueChanged(placeholderKey);
+            }
+        });
+    }
+
+    /**
+     * Worker thread side of a fetch
+     */
+    private void fetch(String name, DataProvider<?> provider) {
+        try {
+            completed.add(new FetchResult(name, provider.fetch(), null));
+        } catch (Exception e) {
+            completed.add(new FetchResult(name, null, e));
+        }
+    }
+
+    /**
+     * Apply all fetches that finished since the last tick
+     */
+    private void tick() {
+        FetchResult result;
+        while ((result = completed.poll()) != null) {
+            inFlight.remove(result.providerName());
+            DataProvider<?> provider = providers.get(result.providerName());
+            if (provider == null) {
+                continue;
+            }
+
+            CachedValue cached = cache.computeIfAbsent(result.providerName(), key -> new CachedValue());
+            cached.expiresAt = System.currentTimeMillis() + Math.max(0L, provider.getTtlMillis());
+            if (result.error() != null) {
+                // Keep serving the stale value and retry once the TTL has passed again
+                Logger.warning("Data provider '" + result.providerName() + "' failed: " + result.error().getMessage());
+                continue;
+            }
+
+            cached.value = result.value();
+            notifyListeners(result.providerName(), result.value());
+        }
+    }
+
+    private void notifyListeners(String name, Object value) {
+        List<Consumer<Object>> providerListeners = listeners.get(name);
+        if (providerListeners == null) {
+            return;
+        }
+        for (Consumer<Object> listener : providerListeners) {
+            try {
+                listener.accept(value);
+            } catch (Exception e) {
+                Logger.warning("Error handling data of provider '" + name + "': " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package org.oneyz.holoFX.holograms.providers;
+
+import org.bukkit.Bukkit;
+import org.oneyz.holoFX.interfaces.provider.DataProvider;
+
+/**
+ * Number of players that ever joined the server. Listing offline players reads the
+ * player data folder, so it is fetched on a worker thread and cached for a minute.
+ */
+public class UniquePlayersProvider implements DataProvider<Integer> {
+
+    public static final String NAME = "unique_players";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public long getTtlMillis() {
+        return 60_000L;
+    }
+
+    @Override
+    public Integer fetch() {
+        return Bukkit.getOfflinePlayers().length;
+    }
+}
@@ -137,6 +137,16 @@ public class HologramVisibilityManager {
         playerVisibilityCache.remove(player.getUniqueId().toString());
     }
 
+    /**
+     * Clear the cached visibility of a hologram for all players
+     * Call this when a hologram is released, e.g. because its world unloads
+     */
+    public void clearHologramCache(String hologramName) {
+        for (Map<String, Set<Integer>> playerVisibility : playerVisibilityCache.values()) {
+            playerVisibility.remove(hologramName);
+        }
+    }
+
     /**
      * Clear all cache
      */
@@ -144,6 +154,33 @@ public class HologramVisibilityManager {
         playerVisibilityCache.clear();
     }
 
+    /**
+     * Re-evaluate a single line against its permission requirement for the given players
+     * Call this when the permission of a line changes on a live hologram
+     */
+    public void updateLineVisibility(HologramDisplay display, int lineIndex, Collection<? extends Player> onlinePlayers) {
+        List<Hologram.Line> lines = display.getHologramConfig().getLines();
+        if (lineIndex < 0 || lineIndex >= lines.size()) {
+            return;
+        }
+
+        Hologram.DisplaySettings settings = lines.get(lineIndex).getDisplaySettings();
+        for (Player player : onlinePlayers) {
+            boolean visible = !settings.hasPermissionRequirement() || player.hasPermission(settings.getPermission());
+            Set<Integer> visibleLines = playerVisibilityCache
+                    .computeIfAbsent(player.getUniqueId().toString(), k -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(display.getHologramName(), k -> ConcurrentHashMap.newKeySet());
+
+            if (visible) {
+                visibleLines.add(lineIndex);
+                showLineToPlayer(player, display, lineIndex);
+            } else {
+                visibleLines.remove(lineIndex);
+                hideLineFromPlayer(player, display, lineIndex);
+            }
+        }
+    }
+
     /**
      * Update visibility when a hologram is spawned
      * Hide lines with permission requirements from players who don't have permission
@@ -0,0 +1,22 @@
+package org.oneyz.holoFX.interfaces.placeholder;
+
+/**
+ * A dynamic value that can be used in hologram text as {name}
+ */
+public interface Placeholder {
+
+    /**
+     * Name used in hologram text, lowercase letters, digits and underscores
+     */
+    String getName();
+
+    /**
+     * How often the value is resolved, in ticks
+     */
+    long getRefreshTicks();
+
+    /**
+     * Resolve the current value. Called on the main thread, so it must be cheap
+     */
+    String resolve();
+}
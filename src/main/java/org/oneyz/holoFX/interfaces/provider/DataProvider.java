@@ -0,0 +1,27 @@
+package org.oneyz.holoFX.interfaces.provider;
+
+/**
+ * Source of data that is too expensive to fetch on the main thread, e.g. SQL queries or file reads.
+ * Implemented by built-in sources and other plugins and registered with the DataProviderManager.
+ *
+ * @param <T> Type of the fetched data
+ */
+public interface DataProvider<T> {
+
+    /**
+     * Unique name of the provider, lowercase letters, digits and underscores
+     */
+    String getName();
+
+    /**
+     * How long a fetched value stays fresh, in milliseconds
+     */
+    long getTtlMillis();
+
+    /**
+     * Fetch the current data. Called on a worker thread, so it must not access worlds or entities
+     *
+     * @return The data, or null if there is nothing to show
+     */
+    T fetch() throws Exception;
+}
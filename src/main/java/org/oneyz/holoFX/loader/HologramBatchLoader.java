@@ -27,6 +27,16 @@ public class HologramBatchLoader {
     private volatile boolean isProcessing = false;
     private final Map<String, BatchProgress> batchProgress = new ConcurrentHashMap<>();
 
+    /**
+     * Worlds that loaded while another batch was running, spawned once it completes
+     */
+    private final Set<String> pendingWorlds = new LinkedHashSet<>();
+
+    /**
+     * Holograms requested while another batch was running, spawned once it completes
+     */
+    private final List<Hologram> pendingHolograms = new ArrayList<>();
+
     /**
      * Create a new HologramBatchLoader
      *
@@ -86,12 +96,33 @@ public class HologramBatchLoader {
         startBatchProcessing(validHolograms);
     }
 
+    /**
+     * Spawn the given holograms in batches
+     *
+     * @param holograms Holograms to spawn (expected to be enabled and in loaded worlds)
+     */
+    public void spawnHolograms(List<Hologram> holograms) {
+        if (holograms.isEmpty()) {
+            return;
+        }
+
+        if (isProcessing) {
+            pendingHolograms.addAll(holograms);
+            Logger.fine("Batch in progress, " + holograms.size() + " hologram(s) will be spawned afterwards");
+            return;
+        }
+
+        Logger.info("Starting batch spawn of " + holograms.size() + " hologram(s)");
+        startBatchProcessing(holograms);
+    }
+
     /**
      * Load and spawn holograms from a specific world
      */
     public void loadAndSpawnHologramsFromWorld(String worldName) {
         if (isProcessing) {
-            Logger.warning("A batch loading operation is already in progress!");
+            pendingWorlds.add(worldName);
+            Logger.fine("Batch in progress, world '" + worldName + "' will be spawned afterwards");
             return;
         }
 
@@ -100,14 +131,16 @@ public class HologramBatchLoader {
         List<Hologram> validHolograms = new ArrayList<>();
         for (Hologram hologram : holograms.values()) {
             if (hologram.isEnabled() &&
+                    hologram.getLocation().getWorld().equals(worldName) &&
                     hologram.hasValidWorld() &&
-                    hologram.getLocation().getWorld().equals(worldName)) {
+                    !displayManager.isActive(hologram.getName())) {
                 validHolograms.add(hologram);
             }
         }
 
         if (validHolograms.isEmpty()) {
             Logger.warning("No valid holograms found in world: " + worldName);
+            processNextPendingWorld();
             return;
         }
 
@@ -170,11 +203,43 @@ public class HologramBatchLoader {
 
             Logger.info("§aCompleted spawning " + successCount.get() + " out of " +
                     holograms.size() + " hologram(s)");
+            Logger.info("Rendering " + displayManager.getActiveLineCount() + " line(s) with "
+                    + displayManager.getActiveEntityCount() + " display entit(ies)");
 
             batchProgress.remove(batchId);
+            processNextPendingWorld();
+        }
+    }
+
+    /**
+     * Start spawning the next world that loaded while a batch was running
+     */
+    private void processNextPendingWorld() {
+        if (!pendingHolograms.isEmpty()) {
+            List<Hologram> holograms = new ArrayList<>(pendingHolograms);
+            pendingHolograms.clear();
+            holograms.removeIf(hologram -> displayManager.isActive(hologram.getName()));
+            if (!holograms.isEmpty()) {
+                spawnHolograms(holograms);
+                return;
+            }
+        }
+
+        Iterator<String> iterator = pendingWorlds.iterator();
+        if (iterator.hasNext()) {
+            String worldName = iterator.next();
+            iterator.remove();
+            loadAndSpawnHologramsFromWorld(worldName);
         }
     }
 
+    /**
+     * Forget a world that was queued for spawning, e.g. because it unloads again
+     */
+    public void cancelPendingWorld(String worldName) {
+        pendingWorlds.remove(worldName);
+    }
+
     /**
      * Cancel current batch processing
      */
@@ -184,6 +249,8 @@ public class HologramBatchLoader {
         }
         isProcessing = false;
         batchProgress.clear();
+        pendingWorlds.clear();
+        pendingHolograms.clear();
         Logger.info("Batch processing cancelled");
     }
 
@@ -0,0 +1,179 @@
+package org.oneyz.holoFX.loader;
+
+import lombok.Getter;
+import org.oneyz.holoFX.models.Hologram;
+
+import java.util.*;
+
+/**
+ * Differences between the currently loaded hologram models and freshly parsed ones.
+ * Used by /holo reload to only touch the holograms and lines that actually changed.
+ */
+@Getter
+public class HologramDiff {
+
+    private final List<Hologram> added = new ArrayList<>();
+    private final List<String> removed = new ArrayList<>();
+    private final Map<String, Change> changed = new LinkedHashMap<>();
+    private final List<Hologram> unchanged = new ArrayList<>();
+
+    /**
+     * Per-hologram changes
+     */
+    @Getter
+    public static class Change {
+        private final Hologram newModel;
+        private final boolean enabledChanged;
+        private final boolean worldChanged;
+        private final boolean moved;
+        private final Set<Integer> textChanged = new TreeSet<>();
+        private final Set<Integer> settingsChanged = new TreeSet<>();
+        private final Set<Integer> addedLines = new TreeSet<>();
+        private final Set<Integer> removedLines = new TreeSet<>();
+
+        private Change(Hologram newModel, boolean enabledChanged, boolean worldChanged, boolean moved) {
+            this.newModel = newModel;
+            this.enabledChanged = enabledChanged;
+            this.worldChanged = worldChanged;
+            this.moved = moved;
+        }
+
+        /**
+         * Check if nothing changed
+         */
+        public boolean isEmpty() {
+            return !enabledChanged && !worldChanged && !moved && textChanged.isEmpty() && settingsChanged.isEmpty()
+                    && addedLines.isEmpty() && removedLines.isEmpty();
+        }
+
+        /**
+         * Check if a line needs its text or settings re-applied
+         */
+        public boolean isLineChanged(int lineIndex) {
+            return textChanged.contains(lineIndex) || settingsChanged.contains(lineIndex);
+        }
+    }
+
+    /**
+     * Compute the differences between two sets of hologram models
+     *
+     * @param current The currently loaded holograms (any key)
+     * @param reloaded The freshly parsed holograms (any key)
+     * @return The differences, matched by hologram name
+     */
+    public static HologramDiff compute(Collection<Hologram> current, Collection<Hologram> reloaded) {
+        HologramDiff diff = new HologramDiff();
+
+        Map<String, Hologram> currentByName = new HashMap<>();
+        for (Hologram hologram : current) {
+            currentByName.put(hologram.getName(), hologram);
+        }
+
+        Set<String> reloadedNames = new HashSet<>();
+        for (Hologram newModel : reloaded) {
+            reloadedNames.add(newModel.getName());
+            Hologram oldModel = currentByName.get(newModel.getName());
+
+            if (oldModel == null) {
+                diff.added.add(newModel);
+                continue;
+            }
+
+            Change change = compare(oldModel, newModel);
+            if (change.isEmpty()) {
+                diff.unchanged.add(newModel);
+            } else {
+                diff.changed.put(newModel.getName(), change);
+            }
+        }
+
+        for (String name : currentByName.keySet()) {
+            if (!reloadedNames.contains(name)) {
+                diff.removed.add(name);
+            }
+        }
+
+        return diff;
+    }
+
+    private static Map<String, Object> motionSource(Hologram.Line line) {
+        return line.getMotion() != null ? line.getMotion().getSource() : null;
+    }
+
+    private static Change compare(Hologram oldModel, Hologram newModel) {
+        Hologram.Location oldLocation = oldModel.getLocation();
+        Hologram.Location newLocation = newModel.getLocation();
+
+        boolean worldChanged = !Objects.equals(oldLocation.getWorld(), newLocation.getWorld());
+        boolean moved = worldChanged
+                || oldLocation.getX() != newLocation.getX()
+                || oldLocation.getY() != newLocation.getY()
+                || oldLocation.getZ() != newLocation.getZ()
+                || oldLocation.getYaw() != newLocation.getYaw();
+
+        Change change = new Change(newModel, oldModel.isEnabled() != newModel.isEnabled(), worldChanged, moved);
+
+        List<Hologram.Line> oldLines = oldModel.getLines();
+        List<Hologram.Line> newLines = newModel.getLines();
+        int common = Math.min(oldLines.size(), newLines.size());
+
+        for (int i = 0; i < common; i++) {
+            Hologram.Line oldLine = oldLines.get(i);
+            Hologram.Line newLine = newLines.get(i);
+
+            if (!oldLine.getTextAsString().equals(newLine.getTextAsString())
+                    || !Objects.equals(HologramLoader.serializeAnimation(oldLine.getAnimation()),
+                    HologramLoader.serializeAnimation(newLine.getAnimation()))) {
+                change.textChanged.add(i);
+            }
+            if (!sameOffset(oldLine.getOffset(), newLine.getOffset())
+                    || !Objects.equals(motionSource(oldLine), motionSource(newLine))
+                    || !HologramLoader.serializeDisplaySettings(oldLine.getDisplaySettings())
+                    .equals(HologramLoader.serializeDisplaySettings(newLine.getDisplaySettings()))) {
+                change.settingsChanged.add(i);
+            }
+        }
+        for (int i = common; i < newLines.size(); i++) {
+            change.addedLines.add(i);
+        }
+        for (int i = common; i < oldLines.size(); i++) {
+            change.removedLines.add(i);
+        }
+
+        return change;
+    }
+
+    private static boolean sameOffset(Hologram.Offset a, Hologram.Offset b) {
+        return a.getX() == b.getX() && a.getY() == b.getY() && a.getZ() == b.getZ();
+    }
+
+    /**
+     * Check if nothing changed at all
+     */
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty() && changed.isEmpty();
+    }
+
+    /**
+     * Number of changed holograms whose location changed
+     */
+    public int getMovedCount() {
+        return (int) changed.values().stream().filter(Change::isMoved).count();
+    }
+
+    /**
+     * Number of lines whose text changed, including added and removed lines
+     */
+    public int getTextChangedCount() {
+        return changed.values().stream()
+                .mapToInt(c -> c.getTextChanged().size() + c.getAddedLines().size() + c.getRemovedLines().size())
+                .sum();
+    }
+
+    /**
+     * Number of lines whose offset or display settings changed
+     */
+    public int getSettingsChangedCount() {
+        return changed.values().stream().mapToInt(c -> c.getSettingsChanged().size()).sum();
+    }
+}
@@ -1,11 +1,17 @@
 package org.oneyz.holoFX.loader;
 
 import org.bukkit.configuration.file.YamlConfiguration;
+import org.oneyz.holoFX.holograms.displays.LineLayout;
 import org.oneyz.holoFX.models.Hologram;
 import org.oneyz.holoFX.utils.Logger;
 
 import java.io.File;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Optimized loader for hologram configuration files.
@@ -16,6 +22,28 @@ public class HologramLoader {
     private final File dataFolder;
     private final Map<String, Hologram> loadedHolograms;
 
+    /**
+     * Canonical display settings by content. Lines treat settings as immutable (edits copy them),
+     * so identical styles parsed from the files share one instance and its compiled transformation.
+     * Only filled while parsing and cleared afterwards, so styles no hologram uses are not kept.
+     */
+    private final Map<Map<String, Object>, Hologram.DisplaySettings> settingsPool = new HashMap<>();
+
+    /**
+     * Single writer thread, so saves of the same file are applied in order
+     */
+    private final ExecutorService saveExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "HoloFX-Save");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Hologram name -> lock held while its file is read, changed and written. Location saves run on the
+     * save thread and edit saves on the main thread; without the lock one would overwrite the other.
+     */
+    private final Map<String, Object> fileLocks = new ConcurrentHashMap<>();
+
     /**
      * Create a new HologramLoader with a data folder
      */
@@ -36,18 +64,33 @@ public class HologramLoader {
      * @return Map of loaded holograms (filename without extension -> Hologram)
      */
     public Map<String, Hologram> loadAllHolograms() {
+        Map<String, Hologram> parsed = parseAllHolograms();
         loadedHolograms.clear();
+        loadedHolograms.putAll(parsed);
+        return loadedHolograms;
+    }
+
+    /**
+     * Parse all hologram configuration files without touching the currently loaded holograms.
+     * Validates for duplicate names and other issues.
+     *
+     * @return Map of parsed holograms (filename without extension -> Hologram)
+     */
+    public Map<String, Hologram> parseAllHolograms() {
+        Map<String, Hologram> parsedHolograms = new HashMap<>();
         File[] files = dataFolder.listFiles((dir, name) -> name.endsWith(".yml"));
 
         if (files == null || files.length == 0) {
             Logger.warning("No hologram configuration files found in: " + dataFolder.getAbsolutePath());
-            return loadedHolograms;
+            return parsedHolograms;
         }
 
         Logger.info("Found " + files.length + " hologram configuration file(s). Loading...");
 
         Set<String> processedNames = new HashSet<>();
         int successCount = 0;
+        int lineCount = 0;
+        settingsPool.clear();
 
         for (File file : files) {
             try {
@@ -62,8 +105,9 @@ public class HologramLoader {
                     }
 
                     processedNames.add(hologram.getName());
-                    loadedHolograms.put(fileKey, hologram);
+                    parsedHolograms.put(fileKey, hologram);
                     successCount++;
+                    lineCount += hologram.getLines().size();
                     Logger.info("Loaded hologram '" + hologram.getName() + "' from: " + file.getName());
                 }
             } catch (Exception e) {
@@ -72,7 +116,9 @@ public class HologramLoader {
         }
 
         Logger.info("Successfully loaded " + successCount + " out of " + files.length + " hologram configuration(s).");
-        return loadedHolograms;
+        Logger.info("Parsed " + lineCount + " line(s) sharing " + settingsPool.size() + " distinct display setting(s)");
+        settingsPool.clear();
+        return parsedHolograms;
     }
 
     /**
@@ -105,7 +151,10 @@ public class HologramLoader {
             throw new IllegalArgumentException("No lines found in hologram: " + fileKey);
         }
 
-        Hologram hologram = new Hologram(hologramName, enabled, location, lines);
+        Hologram.Leaderboard leaderboard = loadLeaderboard(config, lines);
+        Hologram.Paging paging = loadPaging(config, lines, fileKey);
+
+        Hologram hologram = new Hologram(hologramName, enabled, location, lines, paging, leaderboard);
 
         if (!hologram.hasValidWorld()) {
             Logger.fine("World '" + location.getWorld() + "' is not yet loaded for hologram: " + hologramName +
@@ -115,6 +164,112 @@ public class HologramLoader {
         return hologram;
     }
 
+    /**
+     * Load the leaderboard section of a hologram and append its row lines, stacked below the given lines.
+     * Rows start with the empty format and are filled in once the provider returns data.
+     *
+     * @return The leaderboard, or null if the hologram has none
+     */
+    private Hologram.Leaderboard loadLeaderboard(YamlConfiguration config, List<Hologram.Line> lines) {
+        org.bukkit.configuration.ConfigurationSection section = config.getConfigurationSection("leaderboard");
+        if (section == null) {
+            return null;
+        }
+
+        String provider = section.getString("provider");
+        if (provider == null || provider.isEmpty()) {
+            throw new IllegalArgumentException("Missing 'provider' in leaderboard section");
+        }
+
+        Hologram.Leaderboard leaderboard = Hologram.Leaderboard.builder()
+                .provider(provider.toLowerCase())
+                .rows(Math.max(1, Math.min(100, section.getInt("rows", 10))))
+                .format(section.getString("format", "&e#{rank} &f{name} &7- &a{score}"))
+                .emptyFormat(section.getString("empty_format", "&7#{rank} -"))
+                .build();
+
+        Hologram.DisplaySettings settings = Hologram.DisplaySettings.builder()
+                .textOpacity(255)
+                .lineWidth(200)
+                .textAlignment("CENTER")
+                .defaultBackground(true)
+                .seeThrough(false)
+                .shadow(true)
+                .build();
+        org.bukkit.configuration.ConfigurationSection settingsSection = section.getConfigurationSection("display_settings");
+        if (settingsSection != null) {
+            settings = loadDisplaySettings(settingsSection.getValues(false));
+        }
+        Hologram.DisplaySettings parsedSettings = settings;
+        settings = settingsPool.computeIfAbsent(serializeDisplaySettings(parsedSettings), key -> parsedSettings);
+
+        double y = lines.isEmpty() ? 0.0 : lines.get(lines.size() - 1).getOffset().getY();
+        double x = lines.isEmpty() ? 0.0 : lines.get(lines.size() - 1).getOffset().getX();
+        double z = lines.isEmpty() ? 0.0 : lines.get(lines.size() - 1).getOffset().getZ();
+        for (int rank = 1; rank <= leaderboard.getRows(); rank++) {
+            String text = formatLeaderboardRow(leaderboard.getEmptyFormat(), rank, "", "");
+            if (!lines.isEmpty()) {
+                y -= LineLayout.getLineHeight(text, settings);
+            }
+            lines.add(Hologram.Line.builder()
+                    .text(text)
+                    .offset(Hologram.Offset.builder().x(x).y(y).z(z).build())
+                    .displaySettings(settings)
+                    .leaderboardRow(true)
+                    .build());
+        }
+        return leaderboard;
+    }
+
+    /**
+     * Fill in the row tokens of a leaderboard format
+     */
+    public static String formatLeaderboardRow(String format, int rank, String name, String score) {
+        return format.replace("{rank}", String.valueOf(rank))
+                .replace("{name}", name)
+                .replace("{score}", score);
+    }
+
+    /**
+     * Load the extra pages of a hologram. The "lines" section is the first page and every entry
+     * of the "pages" list holds the "lines" of one more page.
+     *
+     * @return The paging, or null if the hologram has a single page
+     */
+    @SuppressWarnings("unchecked")
+    private Hologram.Paging loadPaging(YamlConfiguration config, List<Hologram.Line> firstPage, String fileKey) {
+        List<?> pagesList = config.getList("pages");
+        if (pagesList == null || pagesList.isEmpty()) {
+            return null;
+        }
+
+        List<List<Hologram.Line>> pages = new ArrayList<>();
+        pages.add(firstPage);
+        for (int i = 0; i < pagesList.size(); i++) {
+            if (!(pagesList.get(i) instanceof Map<?, ?> pageMap) || !(pageMap.get("lines") instanceof List<?> pageLines)) {
+                Logger.warning("Page " + (i + 2) + " of hologram " + fileKey + " has no 'lines' list. Skipping.");
+                continue;
+            }
+            List<Hologram.Line> lines = loadLines(pageLines);
+            if (lines.isEmpty()) {
+                Logger.warning("Page " + (i + 2) + " of hologram " + fileKey + " has no valid lines. Skipping.");
+                continue;
+            }
+            pages.add(lines);
+        }
+
+        if (pages.size() < 2) {
+            return null;
+        }
+
+        return Hologram.Paging.builder()
+                .pages(pages)
+                .intervalTicks(Math.max(0, config.getInt("page_settings.interval_ticks", 200)))
+                .clickToSwitch(config.getBoolean("page_settings.click", true))
+                .currentPage(0)
+                .build();
+    }
+
     /**
      * Load location configuration
      */
@@ -216,19 +371,35 @@ public class HologramLoader {
                 displaySettings = loadDisplaySettings(displayMap);
             }
         }
+        Hologram.DisplaySettings parsedSettings = displaySettings;
+        displaySettings = settingsPool.computeIfAbsent(serializeDisplaySettings(parsedSettings), key -> parsedSettings);
+
+        Hologram.Animation animation = null;
+        if (lineMap.get("animation") instanceof Map<?, ?> animationMap) {
+            animation = loadAnimation((Map<String, Object>) animationMap, lineNumber);
+        }
+        Hologram.Motion motion = null;
+        if (lineMap.get("motion") instanceof Map<?, ?> motionMap) {
+            motion = loadMotion((Map<String, Object>) motionMap, lineNumber);
+        }
+
         if (text instanceof String) {
             expandedLines.add(Hologram.Line.builder()
-                    .text(text)
+                    .text((String) text)
                     .offset(offset)
                     .displaySettings(displaySettings)
+                    .animation(animation)
+                    .motion(motion)
                     .build());
         } else if (text instanceof List) {
             List<String> textList = (List<String>) text;
-            double baseY = offset.getY();
+            double lineYOffset = offset.getY();
 
             for (int i = 0; i < textList.size(); i++) {
                 String singleText = textList.get(i);
-                double lineYOffset = baseY - (i * 0.25); // 0.25 units between lines
+                if (i > 0) {
+                    lineYOffset -= LineLayout.getLineHeight(singleText, displaySettings); // Directly below the previous text
+                }
 
                 Hologram.Offset expandedOffset = Hologram.Offset.builder()
                         .x(offset.getX())
@@ -240,6 +411,8 @@ public class HologramLoader {
                         .text(singleText)
                         .offset(expandedOffset)
                         .displaySettings(displaySettings)
+                        .animation(animation)
+                        .motion(motion)
                         .build());
             }
         } else {
@@ -249,6 +422,116 @@ public class HologramLoader {
         return expandedLines;
     }
 
+    /**
+     * Load the animation of a line. Frames are either a text or a map with optional
+     * "text" and "text_opacity" keys.
+     *
+     * @return The animation, or null if it has no frames
+     */
+    @SuppressWarnings("unchecked")
+    private Hologram.Animation loadAnimation(Map<String, Object> animationMap, int lineNumber) {
+        List<Hologram.Frame> frames = new ArrayList<>();
+        Object framesObj = animationMap.get("frames");
+
+        if (framesObj instanceof List<?> framesList) {
+            for (Object frameObj : framesList) {
+                if (frameObj instanceof String frameText) {
+                    frames.add(Hologram.Frame.builder().text(frameText).build());
+                } else if (frameObj instanceof Map<?, ?> frameMap) {
+                    Map<String, Object> frameValues = (Map<String, Object>) frameMap;
+                    Integer opacity = frameValues.containsKey("text_opacity")
+                            ? Math.max(0, Math.min(255, getInt(frameValues, "text_opacity", 255)))
+                            : null;
+                    frames.add(Hologram.Frame.builder()
+                            .text(getString(frameValues, "text", null))
+                            .textOpacity(opacity)
+                            .build());
+                }
+            }
+        }
+
+        if (frames.isEmpty()) {
+            Logger.warning("Animation of line " + lineNumber + " has no frames. Ignoring it.");
+            return null;
+        }
+
+        return Hologram.Animation.builder()
+                .intervalTicks(Math.max(1, getInt(animationMap, "interval_ticks", 20)))
+                .frames(List.copyOf(frames))
+                .build();
+    }
+
+    /**
+     * Load the keyframe motion of a line. Keyframes can be listed explicitly or generated by the
+     * "spin" (rotation around an axis) and "bob" (up and down) presets. When both presets are set,
+     * the bob follows the four spin keyframes and goes up and down twice per turn.
+     *
+     * @return The motion, or null if it has no keyframes
+     */
+    @SuppressWarnings("unchecked")
+    private Hologram.Motion loadMotion(Map<String, Object> motionMap, int lineNumber) {
+        List<Hologram.Keyframe> keyframes = new ArrayList<>();
+
+        if (motionMap.get("keyframes") instanceof List<?> keyframeList) {
+            for (Object keyframeObj : keyframeList) {
+                if (keyframeObj instanceof Map<?, ?> keyframeMap) {
+                    keyframes.add(loadKeyframe((Map<String, Object>) keyframeMap));
+                }
+            }
+        } else {
+            Map<String, Object> spin = motionMap.get("spin") instanceof Map<?, ?> spinMap ? (Map<String, Object>) spinMap : null;
+            Map<String, Object> bob = motionMap.get("bob") instanceof Map<?, ?> bobMap ? (Map<String, Object>) bobMap : null;
+            float bobHeight = bob != null ? (float) getDouble(bob, "height", 0.1) : 0.0f;
+
+            if (spin != null) {
+                int step = Math.max(1, getInt(spin, "period_ticks", 80) / 4);
+                String axis = getString(spin, "axis", "y").toLowerCase();
+                for (int i = 1; i <= 4; i++) {
+                    double half = Math.toRadians(i * 90.0) / 2.0;
+                    float sin = (float) Math.sin(half);
+                    keyframes.add(Hologram.Keyframe.builder()
+                            .durationTicks(step)
+                            .leftRotationQuaternion(List.of(
+                                    axis.equals("x") ? sin : 0.0f,
+                                    axis.equals("x") || axis.equals("z") ? 0.0f : sin,
+                                    axis.equals("z") ? sin : 0.0f,
+                                    (float) Math.cos(half)))
+                            .translation(bob != null ? List.of(0.0f, i % 2 == 1 ? bobHeight : 0.0f, 0.0f) : null)
+                            .build());
+                }
+            } else if (bob != null) {
+                int step = Math.max(1, getInt(bob, "period_ticks", 40) / 2);
+                keyframes.add(Hologram.Keyframe.builder().durationTicks(step).translation(List.of(0.0f, bobHeight, 0.0f)).build());
+                keyframes.add(Hologram.Keyframe.builder().durationTicks(step).translation(List.of(0.0f, 0.0f, 0.0f)).build());
+            }
+        }
+
+        if (keyframes.isEmpty()) {
+            Logger.warning("Motion of line " + lineNumber + " has no keyframes. Ignoring it.");
+            return null;
+        }
+
+        return Hologram.Motion.builder()
+                .keyframes(List.copyOf(keyframes))
+                .startDelayTicks(Math.max(0, getInt(motionMap, "start_delay_ticks", 0)))
+                .source(new LinkedHashMap<>(motionMap))
+                .build();
+    }
+
+    private Hologram.Keyframe loadKeyframe(Map<String, Object> keyframeMap) {
+        return Hologram.Keyframe.builder()
+                .durationTicks(Math.max(1, getInt(keyframeMap, "duration_ticks", 20)))
+                .translation(getFloatList(keyframeMap, "translation"))
+                .leftRotationQuaternion(getFloatList(keyframeMap, "left_rotation"))
+                .scale(getFloatList(keyframeMap, "scale"))
+                .rightRotationQuaternion(getFloatList(keyframeMap, "right_rotation"))
+                .build();
+    }
+
+    private List<Float> getFloatList(Map<String, Object> map, String key) {
+        return map.get(key) instanceof List<?> list ? convertListToFloats(list) : null;
+    }
+
     /**
      * Load display settings for a line
      */
@@ -292,6 +575,7 @@ public class HologramLoader {
                 .permission(getString(displayMap, "permission", null))
                 .brightness(loadBrightness(displayMap))
                 .shadowRadius(displayMap.containsKey("shadow_radius") ? getDouble(displayMap, "shadow_radius", 0.0) : null)
+                .shadowStrength(displayMap.containsKey("shadow_strength") ? getDouble(displayMap, "shadow_strength", 1.0) : null)
                 .viewRange(displayMap.containsKey("view_range") ? getFloat(displayMap, "view_range", 1.0f) : null)
                 .translation(translation)
                 .rightRotationQuaternion(rightRotation)
@@ -314,7 +598,7 @@ public class HologramLoader {
                 floats.add(((Number) obj).floatValue());
             }
         }
-        return floats.isEmpty() ? null : floats;
+        return floats.isEmpty() ? null : List.copyOf(floats);
     }
 
     /**
@@ -414,6 +698,92 @@ public class HologramLoader {
         return loadedHolograms.get(fileKey);
     }
 
+    /**
+     * Get a loaded hologram by its name (falls back to a case-insensitive match)
+     */
+    public Hologram getHologramByName(String hologramName) {
+        Hologram hologram = loadedHolograms.get(hologramName);
+        if (hologram != null && hologram.getName().equals(hologramName)) {
+            return hologram;
+        }
+
+        for (Hologram loaded : loadedHolograms.values()) {
+            if (loaded.getName().equalsIgnoreCase(hologramName)) {
+                return loaded;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Re-read and parse only the file of a single hologram and swap its model in place.
+     * Other holograms and files are not touched.
+     *
+     * @param hologramName The name of the hologram
+     * @return The reloaded hologram, or null if its file no longer exists (the model is removed)
+     * @throws IllegalArgumentException if the file is invalid or the new name collides with another hologram
+     */
+    public Hologram reloadHologram(String hologramName) {
+        String fileKey = findFileKey(hologramName);
+        File file = new File(dataFolder, fileKey + ".yml");
+
+        if (!file.exists()) {
+            loadedHolograms.remove(fileKey);
+            return null;
+        }
+
+        Hologram hologram;
+        seedSettingsPool();
+        try {
+            hologram = loadHologramFromFile(file, fileKey);
+        } finally {
+            settingsPool.clear();
+        }
+
+        Hologram sameName = getHologramByName(hologram.getName());
+        if (sameName != null && sameName != loadedHolograms.get(fileKey)) {
+            throw new IllegalArgumentException("Duplicate hologram name detected: '" + hologram.getName() +
+                    "' in file: " + file.getName());
+        }
+
+        loadedHolograms.put(fileKey, hologram);
+        Logger.info("Reloaded hologram '" + hologram.getName() + "' from: " + file.getName());
+        return hologram;
+    }
+
+    /**
+     * Fill the settings pool with the settings of the loaded holograms, so a single reloaded file
+     * shares their instances without the pool holding on to styles that are no longer used
+     */
+    private void seedSettingsPool() {
+        settingsPool.clear();
+        Set<Hologram.DisplaySettings> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Hologram loaded : loadedHolograms.values()) {
+            for (Hologram.Line line : loaded.getLines()) {
+                Hologram.DisplaySettings settings = line.getDisplaySettings();
+                if (settings != null && seen.add(settings)) {
+                    settingsPool.putIfAbsent(serializeDisplaySettings(settings), settings);
+                }
+            }
+        }
+    }
+
+    /**
+     * Find the file key of a hologram, defaulting to its name for holograms that are not loaded yet
+     */
+    private String findFileKey(String hologramName) {
+        if (loadedHolograms.containsKey(hologramName)) {
+            return hologramName;
+        }
+
+        for (Map.Entry<String, Hologram> entry : loadedHolograms.entrySet()) {
+            if (entry.getValue().getName().equalsIgnoreCase(hologramName)) {
+                return entry.getKey();
+            }
+        }
+        return hologramName;
+    }
+
     /**
      * Get all loaded holograms
      */
@@ -435,6 +805,16 @@ public class HologramLoader {
         return loadedHolograms.size();
     }
 
+    /**
+     * Replace all loaded holograms with previously parsed ones
+     *
+     * @param holograms Map of holograms (filename without extension -> Hologram)
+     */
+    public void replaceAll(Map<String, Hologram> holograms) {
+        loadedHolograms.clear();
+        loadedHolograms.putAll(holograms);
+    }
+
     /**
      * Reload all holograms
      */
@@ -469,6 +849,36 @@ public class HologramLoader {
         }
     }
 
+    /**
+     * Serialize a line animation for YAML, or return null if the line is not animated
+     */
+    public static Map<String, Object> serializeAnimation(Hologram.Animation animation) {
+        if (animation == null) {
+            return null;
+        }
+
+        List<Object> frames = new ArrayList<>();
+        for (Hologram.Frame frame : animation.getFrames()) {
+            if (frame.getTextOpacity() == null && frame.getText() != null) {
+                frames.add(frame.getText());
+                continue;
+            }
+            Map<String, Object> frameMap = new LinkedHashMap<>();
+            if (frame.getText() != null) {
+                frameMap.put("text", frame.getText());
+            }
+            if (frame.getTextOpacity() != null) {
+                frameMap.put("text_opacity", frame.getTextOpacity());
+            }
+            frames.add(frameMap);
+        }
+
+        Map<String, Object> animationMap = new LinkedHashMap<>();
+        animationMap.put("interval_ticks", animation.getIntervalTicks());
+        animationMap.put("frames", frames);
+        return animationMap;
+    }
+
     /**
      * Utility method to properly serialize display settings for YAML
      * Converts Billboard enum to string representation
@@ -520,6 +930,10 @@ public class HologramLoader {
             displaySettings.put("shadow_radius", settings.getShadowRadius());
         }
 
+        if (settings.getShadowStrength() != null) {
+            displaySettings.put("shadow_strength", settings.getShadowStrength());
+        }
+
         if (settings.getViewRange() != null) {
             displaySettings.put("view_range", settings.getViewRange());
         }
@@ -548,33 +962,59 @@ public class HologramLoader {
      */
     public boolean saveUpdatedHologramToFile(String hologramName, List<Hologram.Line> updatedLines) {
         try {
-            File dataFolder = this.dataFolder;
-            File hologramFile = new File(dataFolder, hologramName + ".yml");
+            synchronized (getFileLock(hologramName)) {
+                File dataFolder = this.dataFolder;
+                File hologramFile = new File(dataFolder, hologramName + ".yml");
 
-            if (!hologramFile.exists()) {
-                Logger.warning("Hologram file not found: " + hologramFile.getName());
-                return false;
-            }
-            YamlConfiguration config = YamlConfiguration.loadConfiguration(hologramFile);
-            List<Map<String, Object>> linesList = new ArrayList<>();
-            for (Hologram.Line line : updatedLines) {
-                Map<String, Object> lineMap = new LinkedHashMap<>();
-
-                lineMap.put("text", line.getText());
-
-                Map<String, Object> offset = new LinkedHashMap<>();
-                offset.put("x", line.getOffset().getX());
-                offset.put("y", line.getOffset().getY());
-                offset.put("z", line.getOffset().getZ());
-                lineMap.put("offset", offset);
-                Map<String, Object> displaySettings = serializeDisplaySettings(line.getDisplaySettings());
-
-                lineMap.put("display_settings", displaySettings);
-                linesList.add(lineMap);
+                if (!hologramFile.exists()) {
+                    Logger.warning("Hologram file not found: " + hologramFile.getName());
+                    return false;
+                }
+                YamlConfiguration config = YamlConfiguration.loadConfiguration(hologramFile);
+                List<Map<String, Object>> linesList = new ArrayList<>();
+                Hologram model = getHologramByName(hologramName);
+                int page = model != null && model.isPaged() ? model.getPaging().getCurrentPage() : 0;
+                for (Hologram.Line line : updatedLines) {
+                    if (line.isLeaderboardRow()) {
+                        continue; // Generated from the provider and not part of the file
+                    }
+                    Map<String, Object> lineMap = new LinkedHashMap<>();
+
+                    lineMap.put("text", line.getText());
+
+                    Map<String, Object> offset = new LinkedHashMap<>();
+                    offset.put("x", line.getOffset().getX());
+                    offset.put("y", line.getOffset().getY());
+                    offset.put("z", line.getOffset().getZ());
+                    lineMap.put("offset", offset);
+                    Map<String, Object> displaySettings = serializeDisplaySettings(line.getDisplaySettings());
+
+                    lineMap.put("display_settings", displaySettings);
+                    if (line.getAnimation() != null) {
+                        lineMap.put("animation", serializeAnimation(line.getAnimation()));
+                    }
+                    if (line.getMotion() != null) {
+                        lineMap.put("motion", line.getMotion().getSource());
+                    }
+                    linesList.add(lineMap);
+                }
+                if (page > 0) {
+                    // Another page is shown, so the edited lines belong to that page
+                    List<Object> pages = new ArrayList<>(config.getList("pages", List.of()));
+                    if (page - 1 >= pages.size() || !(pages.get(page - 1) instanceof Map<?, ?> pageMap)) {
+                        Logger.warning("Page " + (page + 1) + " of hologram " + hologramName + " not found in its file");
+                        return false;
+                    }
+                    Map<Object, Object> updatedPage = new LinkedHashMap<>(pageMap);
+                    updatedPage.put("lines", linesList);
+                    pages.set(page - 1, updatedPage);
+                    config.set("pages", pages);
+                } else {
+                    config.set("lines", linesList);
+                }
+                config.save(hologramFile);
+                return true;
             }
-            config.set("lines", linesList);
-            config.save(hologramFile);
-            return true;
 
         } catch (Exception e) {
             Logger.severe("Error saving hologram file: " + hologramName, e);
@@ -583,47 +1023,91 @@ public class HologramLoader {
     }
 
     /**
-     * Save hologram location to file
+     * Write a hologram location to its file on the save thread.
+     * The in-memory model is expected to be updated by the caller already.
+     *
+     * @param hologramName The name of the hologram
+     * @param newLocation The new location (copied before this method returns)
+     * @return Future completed with true if the file was written
      */
-    public boolean saveHologramLocation(String hologramName, Hologram.Location newLocation) {
-        try {
-            File dataFolder = this.dataFolder;
-            File hologramFile = new File(dataFolder, hologramName + ".yml");
+    public CompletableFuture<Boolean> saveHologramLocationAsync(String hologramName, Hologram.Location newLocation) {
+        Hologram.Location snapshot = Hologram.Location.builder()
+                .world(newLocation.getWorld())
+                .x(newLocation.getX())
+                .y(newLocation.getY())
+                .z(newLocation.getZ())
+                .yaw(newLocation.getYaw())
+                .build();
 
-            if (!hologramFile.exists()) {
-                Logger.warning("Hologram file not found: " + hologramFile.getName());
-                return false;
-            }
-            YamlConfiguration config = YamlConfiguration.loadConfiguration(hologramFile);
-            Map<String, Object> locationMap = new LinkedHashMap<>();
-            locationMap.put("world", newLocation.getWorld());
-            locationMap.put("x", newLocation.getX());
-            locationMap.put("y", newLocation.getY());
-            locationMap.put("z", newLocation.getZ());
-            locationMap.put("yaw", newLocation.getYaw());
-
-            config.set("location", locationMap);
-            config.save(hologramFile);
-            Hologram loadedHologram = loadedHolograms.values().stream()
-                    .filter(h -> h.getName().equalsIgnoreCase(hologramName))
-                    .findFirst()
-                    .orElse(null);
-
-            if (loadedHologram != null) {
-                loadedHologram.getLocation().setX(newLocation.getX());
-                loadedHologram.getLocation().setY(newLocation.getY());
-                loadedHologram.getLocation().setZ(newLocation.getZ());
-                loadedHologram.getLocation().setYaw(newLocation.getYaw());
+        return CompletableFuture.supplyAsync(() -> writeLocation(hologramName, snapshot), saveExecutor);
+    }
+
+    /**
+     * Wait for pending saves to finish and stop the save thread
+     */
+    public void shutdown() {
+        saveExecutor.shutdown();
+        try {
+            if (!saveExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+                Logger.warning("Timed out waiting for pending hologram saves");
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 
-            return true;
+    /**
+     * Write the location section of a hologram file
+     */
+    private boolean writeLocation(String hologramName, Hologram.Location location) {
+        try {
+            synchronized (getFileLock(hologramName)) {
+                File hologramFile = new File(dataFolder, hologramName + ".yml");
 
+                if (!hologramFile.exists()) {
+                    Logger.warning("Hologram file not found: " + hologramFile.getName());
+                    return false;
+                }
+                YamlConfiguration config = YamlConfiguration.loadConfiguration(hologramFile);
+                Map<String, Object> locationMap = new LinkedHashMap<>();
+                locationMap.put("world", location.getWorld());
+                locationMap.put("x", location.getX());
+                locationMap.put("y", location.getY());
+                locationMap.put("z", location.getZ());
+                locationMap.put("yaw", location.getYaw());
+
+                config.set("location", locationMap);
+                config.save(hologramFile);
+                return true;
+            }
         } catch (Exception e) {
             Logger.severe("Error saving hologram location: " + hologramName, e);
             return false;
         }
     }
 
+    private Object getFileLock(String hologramName) {
+        return fileLocks.computeIfAbsent(hologramName, key -> new Object());
+    }
+
+    /**
+     * Save hologram location to file
+     */
+    public boolean saveHologramLocation(String hologramName, Hologram.Location newLocation) {
+        if (!writeLocation(hologramName, newLocation)) {
+            return false;
+        }
+
+        Hologram loadedHologram = getHologramByName(hologramName);
+        if (loadedHologram != null) {
+            loadedHologram.getLocation().setX(newLocation.getX());
+            loadedHologram.getLocation().setY(newLocation.getY());
+            loadedHologram.getLocation().setZ(newLocation.getZ());
+            loadedHologram.getLocation().setYaw(newLocation.getYaw());
+        }
+        return true;
+    }
+
 }
 
 
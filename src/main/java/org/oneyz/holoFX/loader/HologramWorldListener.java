@@ -1,9 +1,13 @@
 package org.oneyz.holoFX.loader;
 
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.world.WorldLoadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+import org.oneyz.holoFX.holograms.displays.HologramDisplayManager;
 import org.oneyz.holoFX.utils.Logger;
+import org.oneyz.holoFX.utils.WorldRegistry;
 
 /**
  * Listener for world-related events to handle hologram loading
@@ -11,10 +15,12 @@ import org.oneyz.holoFX.utils.Logger;
 public class HologramWorldListener implements Listener {
 
     private final HologramBatchLoader batchLoader;
+    private final HologramDisplayManager displayManager;
     private volatile boolean hasInitialLoadCompleted = false;
 
-    public HologramWorldListener(HologramBatchLoader batchLoader) {
+    public HologramWorldListener(HologramBatchLoader batchLoader, HologramDisplayManager displayManager) {
         this.batchLoader = batchLoader;
+        this.displayManager = displayManager;
     }
 
     /**
@@ -23,10 +29,25 @@ public class HologramWorldListener implements Listener {
     @EventHandler
     public void onWorldLoad(WorldLoadEvent event) {
         String worldName = event.getWorld().getName();
+        WorldRegistry.onWorldLoad(event.getWorld());
         Logger.info("World '" + worldName + "' has been loaded. Spawning holograms...");
         batchLoader.loadAndSpawnHologramsFromWorld(worldName);
     }
 
+    /**
+     * Listen for world unload events and release the holograms of that world
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onWorldUnload(WorldUnloadEvent event) {
+        String worldName = event.getWorld().getName();
+        WorldRegistry.onWorldUnload(worldName);
+        batchLoader.cancelPendingWorld(worldName);
+        int released = displayManager.releaseWorld(worldName);
+        if (released > 0) {
+            Logger.info("World '" + worldName + "' is unloading. Released " + released + " hologram(s)");
+        }
+    }
+
     /**
      * Mark initial load as completed
      */
@@ -1,12 +1,19 @@
 package org.oneyz.holoFX.models;
 
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
-import org.bukkit.Bukkit;
 import org.bukkit.World;
+import org.bukkit.util.Transformation;
 import org.bukkit.util.Vector;
+import org.joml.Quaternionf;
+import org.joml.Vector3f;
+import org.oneyz.holoFX.holograms.placeholders.PlaceholderRegistry;
+import org.oneyz.holoFX.holograms.placeholders.PlaceholderTemplate;
+import org.oneyz.holoFX.utils.TextCompiler;
+import org.oneyz.holoFX.utils.WorldRegistry;
 
 import java.util.List;
 import java.util.Map;
@@ -51,13 +58,46 @@ public class Hologram {
     private String name;
     private boolean enabled;
     private Location location;
-    private List<Line> lines;
+    private List<Line> lines; // Lines of the page that is currently shown
+
+    /**
+     * Pages of a paged hologram, null for single-page holograms
+     */
+    private Paging paging;
+
+    /**
+     * Leaderboard rows rendered below the lines of the first page, null for plain holograms
+     */
+    private Leaderboard leaderboard;
 
     /**
      * Get the World object from the location
      */
     public World getWorld() {
-        return Bukkit.getWorld(location.getWorld());
+        return WorldRegistry.getWorld(location.getWorld());
+    }
+
+    /**
+     * Check if the hologram has more than one page
+     */
+    public boolean isPaged() {
+        return paging != null && paging.getPages().size() > 1;
+    }
+
+    /**
+     * Get the index of the first leaderboard row among the lines shown, or -1 if no rows are shown.
+     * Rows are generated as one block, so the lines from this index on up to the row count are rows.
+     */
+    public int getFirstLeaderboardRow() {
+        if (leaderboard == null) {
+            return -1;
+        }
+        for (int i = 0; i < lines.size(); i++) {
+            if (lines.get(i).isLeaderboardRow()) {
+                return i;
+            }
+        }
+        return -1;
     }
 
     /**
@@ -67,6 +107,35 @@ public class Hologram {
         return getWorld() != null;
     }
 
+    /**
+     * Pages of a hologram. Only the current page is rendered, its lines are the hologram's lines;
+     * the first page is the "lines" section of the hologram file.
+     */
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @Builder
+    public static class Paging {
+        private List<List<Line>> pages;
+        private int intervalTicks; // 0 to only switch on click
+        private boolean clickToSwitch;
+        private int currentPage;
+    }
+
+    /**
+     * Leaderboard bound to a data provider returning sorted rows. The row lines are flagged as
+     * leaderboard rows on the first page; they are generated and never saved to the file.
+     */
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    public static class Leaderboard {
+        private String provider;
+        private int rows;
+        private String format; // {rank}, {name} and {score} are replaced per row
+        private String emptyFormat; // used for ranks without an entry
+    }
+
     /**
      * Location model for hologram
      */
@@ -85,9 +154,7 @@ public class Hologram {
          * Convert to Bukkit Location
          */
         public org.bukkit.Location toBukkitLocation() {
-            org.bukkit.Location loc = new org.bukkit.Location(Bukkit.getWorld(world), x, y, z);
-            loc.setYaw(yaw);
-            return loc;
+            return WorldRegistry.getBukkitLocation(this).clone();
         }
 
         /**
@@ -104,55 +171,239 @@ public class Hologram {
     @Getter
     @Setter
     @AllArgsConstructor
-    @Builder
+    @Builder(toBuilder = true)
     public static class Line {
 
         /**
-         * Text content - can be a single string or list of strings
+         * Text content, multiple text lines are separated by newlines
          */
-        private Object text; // String or List<String>
+        private String text;
 
         private Offset offset;
         private DisplaySettings displaySettings;
 
         /**
-         * Get text as a single string (if it's a list, joins with newline)
+         * Optional frames that replace the text in turn, null for static lines
          */
-        public String getTextAsString() {
-            if (text instanceof String) {
-                return (String) text;
-            } else if (text instanceof List) {
-                return String.join("\n", (List<String>) text);
+        private Animation animation;
+
+        /**
+         * Optional keyframes interpolated by the client, null for lines that do not move
+         */
+        private Motion motion;
+
+        /**
+         * Whether the line is a row generated by the hologram's leaderboard; rows are never saved
+         */
+        private boolean leaderboardRow;
+
+        /**
+         * Rendered form of the text, not part of the builder; it is compiled once per text value
+         */
+        @Getter(AccessLevel.NONE)
+        private final RenderedTextCache renderedTextCache = new RenderedTextCache();
+
+        /**
+         * Get the text with placeholders filled in and color codes, hex colors and gradients compiled
+         * for the client. The template is compiled once per text; static text is rendered once and
+         * text with placeholders only again after a placeholder value changed.
+         */
+        public String getRenderedText() {
+            RenderedTextCache cache = getTemplateCache();
+            if (cache.template.isStatic()) {
+                return cache.rendered;
+            }
+
+            long version = PlaceholderRegistry.getVersion();
+            if (cache.valuesVersion != version) {
+                cache.rendered = TextCompiler.compile(cache.template.render());
+                cache.valuesVersion = version;
+            }
+            return cache.rendered;
+        }
+
+        /**
+         * Get the compiled placeholder template of the text
+         */
+        public PlaceholderTemplate getTemplate() {
+            return getTemplateCache().template;
+        }
+
+        private RenderedTextCache getTemplateCache() {
+            RenderedTextCache cache = renderedTextCache;
+            if (cache.template == null || cache.source != text) {
+                cache.source = text;
+                cache.template = PlaceholderTemplate.compile(text);
+                cache.rendered = cache.template.isStatic() ? TextCompiler.compile(text) : null;
+                cache.valuesVersion = -1;
             }
-            return "";
+            return cache;
         }
 
         /**
-         * Get text as a list
+         * Holds the compiled template and rendered text together with the text they were built from,
+         * so replacing the text through the setter invalidates them
+         */
+        private static final class RenderedTextCache {
+            private String source;
+            private PlaceholderTemplate template;
+            private String rendered;
+            private long valuesVersion;
+        }
+
+        /**
+         * Get text as a single string, never null
+         */
+        public String getTextAsString() {
+            return text != null ? text : "";
+        }
+
+        /**
+         * Get text split into its text lines
          */
-        @SuppressWarnings("unchecked")
         public List<String> getTextAsLines() {
-            if (text instanceof List) {
-                return (List<String>) text;
-            } else if (text instanceof String) {
-                return List.of((String) text);
+            if (text == null) {
+                return List.of();
             }
-            return List.of();
+            return text.indexOf('\n') < 0 ? List.of(text) : List.of(text.split("\n", -1));
         }
 
         /**
          * Get text as single line (first line if multiple)
          */
         public String getFirstLine() {
-            if (text instanceof String) {
-                return (String) text;
-            } else if (text instanceof List) {
-                List<?> list = (List<?>) text;
-                if (!list.isEmpty()) {
-                    return list.get(0).toString();
-                }
+            if (text == null) {
+                return "";
+            }
+            int newline = text.indexOf('\n');
+            return newline < 0 ? text : text.substring(0, newline);
+        }
+    }
+
+    /**
+     * Animation of a line: the frames are shown in turn, each for intervalTicks
+     */
+    @Getter
+    @AllArgsConstructor
+    @Builder(toBuilder = true)
+    public static class Animation {
+        private int intervalTicks;
+        private List<Frame> frames;
+    }
+
+    /**
+     * Single animation frame. Fields that are null keep the value of the line.
+     */
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    public static class Frame {
+        private String text;
+        private Integer textOpacity; // 0-255
+
+        /**
+         * Compiled template and rendered text of the frame, not part of the builder
+         */
+        @Getter(AccessLevel.NONE)
+        private final FrameTextCache textCache = new FrameTextCache();
+
+        /**
+         * Get the text to show for this frame, compiled like {@link Line#getRenderedText()}.
+         * Static frame text is compiled once; text with placeholders is rendered each time the frame is shown.
+         */
+        public String getRenderedText(Line line) {
+            if (text == null) {
+                return line.getRenderedText();
+            }
+
+            FrameTextCache cache = textCache;
+            if (cache.template == null) {
+                cache.template = PlaceholderTemplate.compile(text);
+                cache.rendered = cache.template.isStatic() ? TextCompiler.compile(text) : null;
             }
-            return "";
+            return cache.template.isStatic() ? cache.rendered : TextCompiler.compile(cache.template.render());
+        }
+
+        private static final class FrameTextCache {
+            private PlaceholderTemplate template;
+            private String rendered;
+        }
+    }
+
+    /**
+     * Keyframe motion of a line. The server sends one transformation per keyframe and the client
+     * interpolates towards it, so a moving line costs nothing between keyframes.
+     */
+    @Getter
+    @AllArgsConstructor
+    @Builder(toBuilder = true)
+    public static class Motion {
+        private List<Keyframe> keyframes;
+        private int startDelayTicks; // interpolation delay of the first keyframe, shifts the motion of a line against others
+
+        /**
+         * The motion as written in the hologram file, kept so saving does not expand presets
+         */
+        private Map<String, Object> source;
+    }
+
+    /**
+     * Single motion keyframe, relative to the line's own transformation: the translation is added,
+     * rotations are applied on top of the line's rotations and the scale is multiplied.
+     * Components that are null are left as configured for the line.
+     */
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    public static class Keyframe {
+        private int durationTicks;
+        private List<Float> translation; // [x, y, z]
+        private List<Float> leftRotationQuaternion; // [x, y, z, w]
+        private List<Float> scale; // [x, y, z]
+        private List<Float> rightRotationQuaternion; // [x, y, z, w]
+
+        /**
+         * Last transformation built from a base transformation, not part of the builder
+         */
+        @Getter(AccessLevel.NONE)
+        private final KeyframeCache cache = new KeyframeCache();
+
+        /**
+         * Get the target transformation of this keyframe for a line with the given transformation.
+         * Free-standing lines share their compiled transformation, so the result is built once per settings.
+         */
+        public Transformation applyTo(Transformation base) {
+            KeyframeCache keyframeCache = cache;
+            if (keyframeCache.base == base) {
+                return keyframeCache.result;
+            }
+
+            // The components of base belong to the shared compiled transformation, so work on copies
+            Vector3f translated = new Vector3f(base.getTranslation());
+            if (translation != null && translation.size() >= 3) {
+                translated.add(translation.get(0), translation.get(1), translation.get(2));
+            }
+            Quaternionf left = new Quaternionf(base.getLeftRotation());
+            if (leftRotationQuaternion != null && leftRotationQuaternion.size() >= 4) {
+                left = DisplaySettings.toQuaternion(leftRotationQuaternion).mul(left);
+            }
+            Vector3f scaled = new Vector3f(base.getScale());
+            if (scale != null && scale.size() >= 3) {
+                scaled.mul(scale.get(0), scale.get(1), scale.get(2));
+            }
+            Quaternionf right = new Quaternionf(base.getRightRotation());
+            if (rightRotationQuaternion != null && rightRotationQuaternion.size() >= 4) {
+                right.mul(DisplaySettings.toQuaternion(rightRotationQuaternion));
+            }
+
+            keyframeCache.base = base;
+            keyframeCache.result = new Transformation(translated, left, scaled, right);
+            return keyframeCache.result;
+        }
+
+        private static final class KeyframeCache {
+            private Transformation base;
+            private Transformation result;
         }
     }
 
@@ -162,7 +413,7 @@ public class Hologram {
     @Getter
     @Setter
     @AllArgsConstructor
-    @Builder
+    @Builder(toBuilder = true)
     public static class Offset {
         private double x;
         private double y;
@@ -189,7 +440,7 @@ public class Hologram {
     @Getter
     @Setter
     @AllArgsConstructor
-    @Builder
+    @Builder(toBuilder = true)
     public static class DisplaySettings {
         public static final int DEFAULT_TEXT_OPACITY = 255;
         public static final int DEFAULT_LINE_WIDTH = 200;
@@ -217,6 +468,61 @@ public class Hologram {
         private List<Float> scale; // [x, y, z]
         private List<Float> leftRotationQuaternion; // [x, y, z, w]
 
+        /**
+         * Compiled transformation, not part of the builder; toBuilder() copies start with an empty cache
+         */
+        @Getter(AccessLevel.NONE)
+        private final TransformationCache transformationCache = new TransformationCache();
+
+        /**
+         * Get the transformation described by these settings. It is built once and shared by every
+         * entity using these settings; components the settings do not define are left at identity.
+         * Its getters return the live JOML components, so callers must copy a component before changing it.
+         */
+        public Transformation getCompiledTransformation() {
+            TransformationCache cache = transformationCache;
+            if (cache.transformation == null || cache.translation != translation || cache.scale != scale
+                    || cache.leftRotation != leftRotationQuaternion || cache.rightRotation != rightRotationQuaternion) {
+                cache.translation = translation;
+                cache.scale = scale;
+                cache.leftRotation = leftRotationQuaternion;
+                cache.rightRotation = rightRotationQuaternion;
+                cache.transformation = new Transformation(
+                        toVector(translation, 0.0f),
+                        toQuaternion(leftRotationQuaternion),
+                        toVector(scale, 1.0f),
+                        toQuaternion(rightRotationQuaternion)
+                );
+            }
+            return cache.transformation;
+        }
+
+        private static Vector3f toVector(List<Float> values, float fallback) {
+            if (values == null || values.size() < 3) {
+                return new Vector3f(fallback);
+            }
+            return new Vector3f(values.get(0), values.get(1), values.get(2));
+        }
+
+        static Quaternionf toQuaternion(List<Float> values) {
+            if (values == null || values.size() < 4) {
+                return new Quaternionf();
+            }
+            return new Quaternionf(values.get(0), values.get(1), values.get(2), values.get(3));
+        }
+
+        /**
+         * Holds the compiled transformation together with the lists it was built from,
+         * so replacing one of the lists through a setter invalidates it
+         */
+        private static final class TransformationCache {
+            private List<Float> translation;
+            private List<Float> scale;
+            private List<Float> leftRotation;
+            private List<Float> rightRotation;
+            private Transformation transformation;
+        }
+
         /**
          * Get background color as integer (ARGB)
          */
@@ -0,0 +1,100 @@
+package org.oneyz.holoFX.utils;
+
+import lombok.Getter;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.oneyz.holoFX.HoloFX;
+
+/**
+ * Loads plugin options from config.yml
+ */
+@Getter
+public class ConfigManager {
+
+    private final HoloFX plugin;
+
+    /**
+     * Whether spawned TextDisplay entities are saved into chunk data
+     */
+    private boolean persistentDisplays;
+
+    /**
+     * Whether lines are mounted as passengers of a single root entity per hologram
+     */
+    private boolean rigMode;
+
+    /**
+     * Whether consecutive lines with the same style are rendered by one entity
+     */
+    private boolean mergeLines;
+
+    /**
+     * Orphan sweeper options
+     */
+    private boolean sweeperEnabled;
+    private int sweeperIntervalSeconds;
+    private int sweeperChunksPerTick;
+    private int sweeperEntitiesPerTick;
+
+    /**
+     * Health monitor options
+     */
+    private boolean healthMonitorEnabled;
+    private int healthHologramsPerTick;
+
+    /**
+     * Interactive move session options
+     */
+    private int moveUpdateIntervalTicks;
+    private double moveDistance;
+
+    /**
+     * Number of worker threads that fetch data provider values
+     */
+    private int providerWorkerThreads;
+
+    public ConfigManager(HoloFX plugin) {
+        this.plugin = plugin;
+        loadConfig();
+    }
+
+    public void loadConfig() {
+        try {
+            plugin.saveDefaultConfig();
+            plugin.reloadConfig();
+            FileConfiguration config = plugin.getConfig();
+
+            persistentDisplays = config.getBoolean("displays.persistent", false);
+            rigMode = config.getBoolean("displays.rig_mode", false);
+            mergeLines = config.getBoolean("displays.merge_lines", false);
+
+            sweeperEnabled = config.getBoolean("sweeper.enabled", true);
+            sweeperIntervalSeconds = Math.max(10, config.getInt("sweeper.interval_seconds", 300));
+            sweeperChunksPerTick = Math.max(1, config.getInt("sweeper.chunks_per_tick", 4));
+            sweeperEntitiesPerTick = Math.max(1, config.getInt("sweeper.entities_per_tick", 256));
+
+            healthMonitorEnabled = config.getBoolean("health_monitor.enabled", true);
+            healthHologramsPerTick = Math.max(1, config.getInt("health_monitor.holograms_per_tick", 4));
+
+            moveUpdateIntervalTicks = Math.max(1, Math.min(59, config.getInt("move_session.update_interval_ticks", 4)));
+            moveDistance = Math.max(1.0, config.getDouble("move_session.distance", 4.0));
+
+            providerWorkerThreads = Math.max(1, Math.min(8, config.getInt("providers.worker_threads", 2)));
+
+            Logger.info("Configuration loaded successfully from config.yml");
+        } catch (Exception e) {
+            Logger.severe("Error loading config.yml", e);
+            persistentDisplays = false;
+            rigMode = false;
+            mergeLines = false;
+            sweeperEnabled = true;
+            sweeperIntervalSeconds = 300;
+            sweeperChunksPerTick = 4;
+            sweeperEntitiesPerTick = 256;
+            healthMonitorEnabled = true;
+            healthHologramsPerTick = 4;
+            moveUpdateIntervalTicks = 4;
+            moveDistance = 4.0;
+            providerWorkerThreads = 2;
+        }
+    }
+}
@@ -1,39 +1,64 @@
 package org.oneyz.holoFX.utils;
 
 import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.Location;
 import org.bukkit.NamespacedKey;
+import org.bukkit.World;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.TextDisplay;
 import org.bukkit.persistence.PersistentDataType;
 import org.oneyz.holoFX.HoloFX;
 
-import java.util.HashSet;
-import java.util.Set;
-import java.util.UUID;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class HologramPDCManager {
 
+    /**
+     * Hologram data of a spawned display entity, mirrored from its PDC
+     */
+    public record TrackedDisplay(String hologramName, int lineIndex, UUID hologramUuid) {
+    }
+
     private static final String HOLOGRAM_PDC_KEY = "hologram";
     private static final String HOLOGRAM_NAME_KEY = "hologram_name";
     private static final String HOLOGRAM_LINE_INDEX_KEY = "line_index";
     private static final String HOLOGRAM_UUID_KEY = "hologram_uuid";
 
+    /**
+     * Line index stored on the root entity of a hologram rig
+     */
+    public static final int ROOT_LINE_INDEX = -1;
+
     private final HoloFX plugin;
     private final NamespacedKey hologramKey;
     private final NamespacedKey hologramNameKey;
     private final NamespacedKey lineIndexKey;
     private final NamespacedKey hologramUuidKey;
 
+    /**
+     * Entity UUID -> hologram data of every display spawned by this plugin
+     */
+    private final Map<UUID, TrackedDisplay> entityRegistry;
+
+    /**
+     * Lowercase hologram name -> entity UUIDs of its displays
+     */
+    private final Map<String, Set<UUID>> hologramEntities;
+
     public HologramPDCManager(HoloFX plugin) {
         this.plugin = plugin;
         this.hologramKey = new NamespacedKey(plugin, HOLOGRAM_PDC_KEY);
         this.hologramNameKey = new NamespacedKey(plugin, HOLOGRAM_NAME_KEY);
         this.lineIndexKey = new NamespacedKey(plugin, HOLOGRAM_LINE_INDEX_KEY);
         this.hologramUuidKey = new NamespacedKey(plugin, HOLOGRAM_UUID_KEY);
+        this.entityRegistry = new ConcurrentHashMap<>();
+        this.hologramEntities = new ConcurrentHashMap<>();
     }
 
     /**
-     * Mark a TextDisplay entity as belonging to a hologram
+     * Mark a TextDisplay entity as belonging to a hologram and register it
      *
      * @param display The TextDisplay entity
      * @param hologramName The name of the hologram
@@ -46,6 +71,7 @@ public class HologramPDCManager {
             display.getPersistentDataContainer().set(hologramNameKey, PersistentDataType.STRING, hologramName);
             display.getPersistentDataContainer().set(lineIndexKey, PersistentDataType.INTEGER, lineIndex);
             display.getPersistentDataContainer().set(hologramUuidKey, PersistentDataType.STRING, hologramUuid.toString());
+            register(display.getUniqueId(), new TrackedDisplay(hologramName, lineIndex, hologramUuid));
         } catch (Exception e) {
             Logger.warning("Failed to mark TextDisplay as hologram: " + e.getMessage());
         }
@@ -101,41 +127,133 @@ public class HologramPDCManager {
     }
 
     /**
-     * Remove a hologram TextDisplay entity
+     * Get the tracked hologram data of a live entity without reading its PDC
+     *
+     * @param entityUuid The UUID of the entity
+     * @return The tracked data, or null if the entity is not a registered hologram display
+     */
+    public TrackedDisplay getTrackedDisplay(UUID entityUuid) {
+        return entityRegistry.get(entityUuid);
+    }
+
+    /**
+     * Get the number of registered hologram display entities
+     */
+    public int getTrackedCount() {
+        return entityRegistry.size();
+    }
+
+    /**
+     * Check if a live entity is registered as a hologram display
+     */
+    public boolean isRegistered(UUID entityUuid) {
+        return entityRegistry.containsKey(entityUuid);
+    }
+
+    /**
+     * Collect unregistered, PDC-tagged displays of a hologram that survived a restart
+     * in the already loaded chunks containing the given locations.
+     * Duplicates and displays tagged with a line index outside the hologram are removed.
+     * A surviving rig root is returned under {@link #ROOT_LINE_INDEX}.
+     *
+     * @param hologramName The name of the hologram
+     * @param locations The locations of the hologram lines
+     * @param lineCount The number of lines the hologram currently has
+     * @return Line index -> surviving display
+     */
+    public Map<Integer, TextDisplay> collectSurvivingDisplays(String hologramName, Collection<Location> locations, int lineCount) {
+        Map<Integer, TextDisplay> survivors = new HashMap<>();
+        Set<Chunk> visitedChunks = new HashSet<>();
+
+        for (Location location : locations) {
+            World world = location.getWorld();
+            int chunkX = location.getBlockX() >> 4;
+            int chunkZ = location.getBlockZ() >> 4;
+            if (world == null || !world.isChunkLoaded(chunkX, chunkZ)) {
+                continue;
+            }
+
+            Chunk chunk = world.getChunkAt(chunkX, chunkZ);
+            if (!visitedChunks.add(chunk) || !chunk.isEntitiesLoaded()) {
+                continue;
+            }
+
+            for (Entity entity : chunk.getEntities()) {
+                if (!isHologramDisplay(entity) || isRegistered(entity.getUniqueId())) {
+                    continue;
+                }
+
+                TextDisplay display = (TextDisplay) entity;
+                if (!hologramName.equals(getHologramName(display))) {
+                    continue;
+                }
+
+                Integer lineIndex = getLineIndex(display);
+                if (lineIndex == null || lineIndex < ROOT_LINE_INDEX || lineIndex >= lineCount
+                        || survivors.containsKey(lineIndex)) {
+                    removeHologramDisplay(display);
+                    continue;
+                }
+                survivors.put(lineIndex, display);
+            }
+        }
+
+        return survivors;
+    }
+
+    /**
+     * Check if the PDC tags of a display still point to the given hologram instance and line
+     */
+    public boolean hasTags(TextDisplay display, UUID hologramUuid, int lineIndex) {
+        return isHologramDisplay(display)
+                && hologramUuid.equals(getHologramUuid(display))
+                && Integer.valueOf(lineIndex).equals(getLineIndex(display));
+    }
+
+    /**
+     * Drop an entity from the registry without removing it from the world
+     */
+    public void untrack(UUID entityUuid) {
+        unregister(entityUuid);
+    }
+
+    /**
+     * Remove a hologram TextDisplay entity and drop it from the registry
      */
     public void removeHologramDisplay(TextDisplay display) {
+        if (display == null) {
+            return;
+        }
+
+        unregister(display.getUniqueId());
+
         try {
-            display.remove();
+            if (display.isValid()) {
+                display.remove();
+            }
         } catch (Exception e) {
             Logger.warning("Failed to remove hologram display: " + e.getMessage());
         }
     }
 
     /**
-     * Remove all TextDisplay entities for a specific hologram from all worlds
+     * Remove all registered TextDisplay entities for a specific hologram
      *
      * @param hologramName The name of the hologram
      * @return Number of displays removed
      */
     public int removeAllDisplaysForHologram(String hologramName) {
-        int removedCount = 0;
-
-        try {
-            for (org.bukkit.World world : Bukkit.getWorlds()) {
-                for (Entity entity : world.getEntities()) {
-                    if (isHologramDisplay(entity)) {
-                        TextDisplay display = (TextDisplay) entity;
-                        String displayHologramName = getHologramName(display);
+        Set<UUID> entityUuids = hologramEntities.remove(hologramName.toLowerCase());
+        if (entityUuids == null) {
+            return 0;
+        }
 
-                        if (displayHologramName != null && displayHologramName.equalsIgnoreCase(hologramName)) {
-                            removeHologramDisplay(display);
-                            removedCount++;
-                        }
-                    }
-                }
+        int removedCount = 0;
+        for (UUID entityUuid : entityUuids) {
+            entityRegistry.remove(entityUuid);
+            if (removeEntity(entityUuid)) {
+                removedCount++;
             }
-        } catch (Exception e) {
-            Logger.warning("Error removing displays for hologram '" + hologramName + "': " + e.getMessage());
         }
 
         if (removedCount > 0) {
@@ -146,73 +264,82 @@ public class HologramPDCManager {
     }
 
     /**
-     * Remove all TextDisplay entities for a specific hologram UUID
+     * Remove all registered TextDisplay entities for a specific hologram UUID
      *
      * @param hologramUuid The UUID of the hologram instance
      * @return Number of displays removed
      */
     public int removeAllDisplaysForHologramUuid(UUID hologramUuid) {
-        int removedCount = 0;
-
-        try {
-            for (org.bukkit.World world : Bukkit.getWorlds()) {
-                for (Entity entity : world.getEntities()) {
-                    if (isHologramDisplay(entity)) {
-                        TextDisplay display = (TextDisplay) entity;
-                        UUID displayUuid = getHologramUuid(display);
+        List<UUID> entityUuids = new ArrayList<>();
+        for (Map.Entry<UUID, TrackedDisplay> entry : entityRegistry.entrySet()) {
+            if (entry.getValue().hologramUuid().equals(hologramUuid)) {
+                entityUuids.add(entry.getKey());
+            }
+        }
 
-                        if (displayUuid != null && displayUuid.equals(hologramUuid)) {
-                            removeHologramDisplay(display);
-                            removedCount++;
-                        }
-                    }
-                }
+        int removedCount = 0;
+        for (UUID entityUuid : entityUuids) {
+            unregister(entityUuid);
+            if (removeEntity(entityUuid)) {
+                removedCount++;
             }
-        } catch (Exception e) {
-            Logger.warning("Error removing displays for hologram UUID '" + hologramUuid + "': " + e.getMessage());
         }
 
         return removedCount;
     }
 
     /**
-     * Get all TextDisplay entities for a specific hologram
+     * Get all loaded TextDisplay entities registered for a specific hologram
      *
      * @param hologramName The name of the hologram
      * @return Set of TextDisplay entities
      */
     public Set<TextDisplay> getAllDisplaysForHologram(String hologramName) {
         Set<TextDisplay> displays = new HashSet<>();
+        Set<UUID> entityUuids = hologramEntities.get(hologramName.toLowerCase());
+        if (entityUuids == null) {
+            return displays;
+        }
 
-        try {
-            for (org.bukkit.World world : Bukkit.getWorlds()) {
-                for (Entity entity : world.getEntities()) {
-                    if (isHologramDisplay(entity)) {
-                        TextDisplay display = (TextDisplay) entity;
-                        String displayHologramName = getHologramName(display);
-
-                        if (displayHologramName != null && displayHologramName.equalsIgnoreCase(hologramName)) {
-                            displays.add(display);
-                        }
-                    }
-                }
+        for (UUID entityUuid : entityUuids) {
+            if (Bukkit.getEntity(entityUuid) instanceof TextDisplay display && display.isValid()) {
+                displays.add(display);
             }
-        } catch (Exception e) {
-            Logger.warning("Error getting displays for hologram '" + hologramName + "': " + e.getMessage());
         }
 
         return displays;
     }
 
     /**
-     * Remove all hologram displays from all worlds
+     * Remove all registered hologram displays
      * Use this during plugin shutdown
      */
     public void removeAllHologramDisplays() {
         int removedCount = 0;
 
+        for (UUID entityUuid : new ArrayList<>(entityRegistry.keySet())) {
+            if (removeEntity(entityUuid)) {
+                removedCount++;
+            }
+        }
+        entityRegistry.clear();
+        hologramEntities.clear();
+
+        Logger.info("Removed " + removedCount + " total hologram display(s)");
+    }
+
+    /**
+     * Remove every PDC-tagged hologram display in all loaded chunks of all worlds.
+     * This scans every entity on the server, so it is only used as a fallback
+     * when the registry turned out to be inconsistent.
+     *
+     * @return Number of displays removed
+     */
+    public int sweepAllWorlds() {
+        int removedCount = 0;
+
         try {
-            for (org.bukkit.World world : Bukkit.getWorlds()) {
+            for (World world : Bukkit.getWorlds()) {
                 for (Entity entity : world.getEntities()) {
                     if (isHologramDisplay(entity)) {
                         removeHologramDisplay((TextDisplay) entity);
@@ -221,11 +348,51 @@ public class HologramPDCManager {
                 }
             }
         } catch (Exception e) {
-            Logger.warning("Error removing all hologram displays: " + e.getMessage());
+            Logger.warning("Error sweeping hologram displays: " + e.getMessage());
         }
 
-        Logger.info("Removed " + removedCount + " total hologram display(s)");
+        Logger.info("Full sweep removed " + removedCount + " hologram display(s)");
+        return removedCount;
     }
-}
 
+    private void register(UUID entityUuid, TrackedDisplay tracked) {
+        TrackedDisplay previous = entityRegistry.put(entityUuid, tracked);
+        if (previous != null) {
+            removeFromNameIndex(entityUuid, previous.hologramName());
+        }
+        hologramEntities.computeIfAbsent(tracked.hologramName().toLowerCase(), k -> ConcurrentHashMap.newKeySet())
+                .add(entityUuid);
+    }
 
+    private void unregister(UUID entityUuid) {
+        TrackedDisplay tracked = entityRegistry.remove(entityUuid);
+        if (tracked != null) {
+            removeFromNameIndex(entityUuid, tracked.hologramName());
+        }
+    }
+
+    private void removeFromNameIndex(UUID entityUuid, String hologramName) {
+        hologramEntities.computeIfPresent(hologramName.toLowerCase(), (name, uuids) -> {
+            uuids.remove(entityUuid);
+            return uuids.isEmpty() ? null : uuids;
+        });
+    }
+
+    /**
+     * Remove a loaded entity by UUID
+     *
+     * @return true if the entity was loaded and removed
+     */
+    private boolean removeEntity(UUID entityUuid) {
+        try {
+            Entity entity = Bukkit.getEntity(entityUuid);
+            if (entity != null && entity.isValid()) {
+                entity.remove();
+                return true;
+            }
+        } catch (Exception e) {
+            Logger.warning("Failed to remove hologram display " + entityUuid + ": " + e.getMessage());
+        }
+        return false;
+    }
+}
@@ -0,0 +1,156 @@
+package org.oneyz.holoFX.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compiles hologram text into the section-sign form rendered by clients.
+ * Supports legacy {@code &} codes, {@code &#RRGGBB} hex colors and
+ * {@code <gradient:#RRGGBB:#RRGGBB[:...]>text</gradient>} gradients.
+ * An {@code &} that does not start a valid code is kept as a literal ampersand.
+ */
+public final class TextCompiler {
+
+    private static final char SECTION = '§';
+    private static final String LEGACY_CODES = "0123456789abcdefklmnorABCDEFKLMNOR";
+    private static final String FORMAT_CODES = "klmnoKLMNO";
+
+    private static final Pattern GRADIENT = Pattern.compile(
+            "<gradient:(#[0-9a-fA-F]{6}(?::#[0-9a-fA-F]{6})+)>(.*?)</gradient>", Pattern.DOTALL);
+
+    private TextCompiler() {
+    }
+
+    /**
+     * Compile raw hologram text
+     *
+     * @param text The raw text as written in the hologram file
+     * @return The rendered text, never null
+     */
+    public static String compile(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        if (text.indexOf('&') < 0 && text.indexOf('<') < 0) {
+            return text;
+        }
+
+        StringBuilder out = new StringBuilder(text.length() + 16);
+        Matcher matcher = GRADIENT.matcher(text);
+        int last = 0;
+        while (matcher.find()) {
+            appendCodes(out, text, last, matcher.start());
+            appendGradient(out, parseStops(matcher.group(1)), matcher.group(2));
+            last = matcher.end();
+        }
+        appendCodes(out, text, last, text.length());
+        return out.toString();
+    }
+
+    /**
+     * Translate legacy and hex codes of a text range
+     */
+    private static void appendCodes(StringBuilder out, String text, int start, int end) {
+        int i = start;
+        while (i < end) {
+            char c = text.charAt(i);
+            if (c == '&' && i + 1 < end) {
+                char code = text.charAt(i + 1);
+                if (code == '#' && i + 8 <= end && isHex(text, i + 2, i + 8)) {
+                    appendHex(out, text.substring(i + 2, i + 8));
+                    i += 8;
+                    continue;
+                }
+                if (LEGACY_CODES.indexOf(code) >= 0) {
+                    out.append(SECTION).append(Character.toLowerCase(code));
+                    i += 2;
+                    continue;
+                }
+            }
+            out.append(c);
+            i++;
+        }
+    }
+
+    /**
+     * Color every visible character of the content along the gradient. Formatting codes inside
+     * the content are re-applied after each color, since a color code resets formatting.
+     */
+    private static void appendGradient(StringBuilder out, int[] stops, String content) {
+        StringBuilder formats = new StringBuilder();
+        List<Character> visible = new ArrayList<>();
+        List<String> formatBefore = new ArrayList<>();
+
+        int i = 0;
+        while (i < content.length()) {
+            char c = content.charAt(i);
+            if (c == '&' && i + 1 < content.length() && LEGACY_CODES.indexOf(content.charAt(i + 1)) >= 0) {
+                char code = Character.toLowerCase(content.charAt(i + 1));
+                if (FORMAT_CODES.indexOf(code) >= 0) {
+                    formats.append(SECTION).append(code);
+                } else if (code == 'r') {
+                    formats.setLength(0);
+                }
+                i += 2;
+                continue;
+            }
+            visible.add(c);
+            formatBefore.add(formats.toString());
+            i++;
+        }
+
+        int count = visible.size();
+        for (int index = 0; index < count; index++) {
+            char c = visible.get(index);
+            if (c == '\n' || c == ' ') {
+                out.append(c);
+                continue;
+            }
+            appendHex(out, String.format("%06X", interpolate(stops, count == 1 ? 0.0 : (double) index / (count - 1))));
+            out.append(formatBefore.get(index)).append(c);
+        }
+    }
+
+    private static int interpolate(int[] stops, double position) {
+        double scaled = position * (stops.length - 1);
+        int segment = Math.min((int) scaled, stops.length - 2);
+        double t = scaled - segment;
+        int from = stops[segment];
+        int to = stops[segment + 1];
+
+        int red = (int) Math.round(((from >> 16) & 0xFF) + (((to >> 16) & 0xFF) - ((from >> 16) & 0xFF)) * t);
+        int green = (int) Math.round(((from >> 8) & 0xFF) + (((to >> 8) & 0xFF) - ((from >> 8) & 0xFF)) * t);
+        int blue = (int) Math.round((from & 0xFF) + ((to & 0xFF) - (from & 0xFF)) * t);
+        return (red << 16) | (green << 8) | blue;
+    }
+
+    private static int[] parseStops(String stops) {
+        String[] parts = stops.split(":");
+        int[] colors = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            colors[i] = Integer.parseInt(parts[i].substring(1), 16);
+        }
+        return colors;
+    }
+
+    /**
+     * Append a hex color in the client's {@code §x§R§R§G§G§B§B} form
+     */
+    private static void appendHex(StringBuilder out, String hex) {
+        out.append(SECTION).append('x');
+        for (int i = 0; i < 6; i++) {
+            out.append(SECTION).append(Character.toLowerCase(hex.charAt(i)));
+        }
+    }
+
+    private static boolean isHex(String text, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (Character.digit(text.charAt(i), 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
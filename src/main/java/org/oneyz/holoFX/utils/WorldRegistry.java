@@ -0,0 +1,117 @@
+package org.oneyz.holoFX.utils;
+
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.oneyz.holoFX.models.Hologram;
+
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of resolved World handles by name.
+ * Each name is resolved through Bukkit once and kept as a weak reference, so unloaded worlds
+ * are never pinned in memory. Entries are replaced on world load and unload events.
+ */
+public class WorldRegistry {
+
+    /**
+     * Marker for a world name that was resolved while the world was not loaded
+     */
+    private static final Reference<World> NOT_LOADED = new WeakReference<>(null);
+
+    private static final Map<String, Reference<World>> worlds = new ConcurrentHashMap<>();
+
+    /**
+     * Hologram location model -> its resolved Bukkit location (identity keys, weakly held)
+     */
+    private static final Map<Hologram.Location, CachedLocation> locations =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private WorldRegistry() {
+    }
+
+    /**
+     * Resolve a world by name
+     *
+     * @param worldName The name of the world
+     * @return The loaded world, or null if it is not loaded
+     */
+    public static World getWorld(String worldName) {
+        if (worldName == null) {
+            return null;
+        }
+
+        Reference<World> reference = worlds.get(worldName);
+        if (reference == NOT_LOADED) {
+            return null;
+        }
+
+        World world = reference != null ? reference.get() : null;
+        if (world == null) {
+            world = Bukkit.getWorld(worldName);
+            worlds.put(worldName, world != null ? new WeakReference<>(world) : NOT_LOADED);
+        }
+        return world;
+    }
+
+    /**
+     * Get the Bukkit location of a hologram location model.
+     * The returned instance is shared; clone it before changing it.
+     *
+     * @param location The hologram location model
+     * @return The Bukkit location, with a null world if the world is not loaded
+     */
+    public static org.bukkit.Location getBukkitLocation(Hologram.Location location) {
+        World world = getWorld(location.getWorld());
+        CachedLocation cached = locations.get(location);
+
+        if (cached == null || !cached.matches(location, world)) {
+            org.bukkit.Location bukkitLocation = new org.bukkit.Location(world, location.getX(), location.getY(), location.getZ());
+            bukkitLocation.setYaw(location.getYaw());
+            cached = new CachedLocation(location.getWorld(), location.getX(), location.getY(), location.getZ(),
+                    location.getYaw(), bukkitLocation);
+            locations.put(location, cached);
+        }
+        return cached.bukkitLocation();
+    }
+
+    /**
+     * Store the handle of a world that has just loaded
+     */
+    public static void onWorldLoad(World world) {
+        worlds.put(world.getName(), new WeakReference<>(world));
+    }
+
+    /**
+     * Forget the handle of a world that is unloading
+     */
+    public static void onWorldUnload(String worldName) {
+        worlds.put(worldName, NOT_LOADED);
+    }
+
+    /**
+     * Clear all cached handles and locations
+     */
+    public static void clear() {
+        worlds.clear();
+        locations.clear();
+    }
+
+    /**
+     * Resolved location together with the model values it was built from
+     */
+    private record CachedLocation(String worldName, double x, double y, double z, float yaw,
+                                  org.bukkit.Location bukkitLocation) {
+
+        boolean matches(Hologram.Location location, World world) {
+            return bukkitLocation.getWorld() == world
+                    && worldName.equals(location.getWorld())
+                    && x == location.getX() && y == location.getY() && z == location.getZ()
+                    && yaw == location.getYaw();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package org.oneyz.holoFX.holograms.displays;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Display;
+import org.bukkit.entity.TextDisplay;
+import org.bukkit.util.Transformation;
+import org.joml.Vector3f;
+import org.junit.jupiter.api.Test;
+import org.oneyz.holoFX.models.Hologram;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+class TextDisplayManagerTest {
+
+    private static final Location BASE = new Location(null, 0.0, 64.0, 0.0);
+
+    private static Hologram.Line line(String text, Hologram.DisplaySettings settings) {
+        return Hologram.Line.builder()
+                .text(text)
+                .offset(Hologram.Offset.builder().x(0.0).y(0.0).z(0.0).build())
+                .displaySettings(settings)
+                .build();
+    }
+
+    private static Hologram.DisplaySettings.DisplaySettingsBuilder defaults() {
+        return Hologram.DisplaySettings.builder()
+                .textOpacity(Hologram.DisplaySettings.DEFAULT_TEXT_OPACITY)
+                .lineWidth(Hologram.DisplaySettings.DEFAULT_LINE_WIDTH)
+                .textAlignment(Hologram.DisplaySettings.DEFAULT_TEXT_ALIGNMENT)
+                .defaultBackground(Hologram.DisplaySettings.DEFAULT_BACKGROUND)
+                .seeThrough(Hologram.DisplaySettings.DEFAULT_SEE_THROUGH)
+                .shadow(Hologram.DisplaySettings.DEFAULT_SHADOW);
+    }
+
+    @Test
+    void reusedEntityDropsSettingsOfPreviousPage() {
+        Hologram.Line styled = line("Page 1", defaults()
+                .billboard(Hologram.Billboard.CENTER)
+                .brightness(0xFF)
+                .shadowRadius(2.0)
+                .shadowStrength(0.5)
+                .viewRange(4.0f)
+                .scale(List.of(2.0f, 2.0f, 2.0f))
+                .build());
+        Hologram.Line plain = line("Page 2", defaults().build());
+        TextDisplay entity = mock(TextDisplay.class);
+
+        TextDisplayManager.reuseTextDisplay(entity, BASE, styled, false);
+        clearInvocations(entity);
+
+        TextDisplayManager.reuseTextDisplay(entity, BASE, plain, false);
+
+        verify(entity).setText("Page 2");
+        verify(entity).setBillboard(Display.Billboard.FIXED);
+        verify(entity).setBrightness(null);
+        verify(entity).setShadowRadius(0.0f);
+        verify(entity).setShadowStrength(1.0f);
+        verify(entity).setViewRange(1.0f);
+        verify(entity).setInterpolationDuration(0);
+        verify(entity).setInterpolationDelay(0);
+        verify(entity, never()).setBrightness(any(Display.Brightness.class));
+        verify(entity, never()).setViewRange(4.0f);
+        verify(entity, never()).setTransformation(argThat((Transformation transformation) ->
+                !transformation.getScale().equals(new Vector3f(1.0f))));
+    }
+
+    @Test
+    void reusedEntityAppliesSettingsOfNewPage() {
+        Hologram.Line plain = line("Page 1", defaults().build());
+        Hologram.Line styled = line("Page 2", defaults()
+                .billboard(Hologram.Billboard.VERTICAL)
+                .viewRange(4.0f)
+                .build());
+        TextDisplay entity = mock(TextDisplay.class);
+
+        TextDisplayManager.reuseTextDisplay(entity, BASE, plain, false);
+        clearInvocations(entity);
+
+        TextDisplayManager.reuseTextDisplay(entity, BASE, styled, false);
+
+        var order = inOrder(entity);
+        order.verify(entity).setBillboard(Display.Billboard.FIXED);
+        order.verify(entity).setViewRange(1.0f);
+        order.verify(entity).setBillboard(Display.Billboard.VERTICAL);
+        order.verify(entity).setViewRange(4.0f);
+    }
+}